@@ -0,0 +1,246 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.utils.time;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.sql.Timestamp;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.*;
+
+/**
+ * Precompiled thread-safe date formatter for simple numeric patterns.
+ * Produces the same output as {@link ExtendedDateFormat} but doesn't use Calendar and doesn't need synchronization.
+ * Supported pattern letters: y, M (numeric), d, H, m, s, S/f (fraction of second) and Z. Anything else is not compiled.
+ */
+public class CompiledDateFormat {
+
+    // Calendar switches to the Julian calendar in 1582, keep away from it and from years with more than 4 digits
+    private static final long MIN_SUPPORTED_TIME = -2208988800000L; // 1900-01-01 UTC
+    private static final long MAX_SUPPORTED_TIME = 253402214400000L; // 9999-12-31 UTC
+
+    private static final char FIELD_LITERAL = 0;
+
+    private static class Token {
+        final char field;
+        final int count;
+        final String literal;
+
+        Token(char field, int count, String literal) {
+            this.field = field;
+            this.count = count;
+            this.literal = literal;
+        }
+    }
+
+    private final Token[] tokens;
+    private final ZoneRules zoneRules;
+
+    private CompiledDateFormat(Token[] tokens, TimeZone timeZone) {
+        this.tokens = tokens;
+        this.zoneRules = timeZone.toZoneId().getRules();
+    }
+
+    /**
+     * Compiles pattern.
+     *
+     * @return null if pattern or locale is not supported
+     */
+    @Nullable
+    public static CompiledDateFormat compile(@NotNull String pattern, @NotNull Locale locale, @NotNull TimeZone timeZone) {
+        if (Calendar.getInstance(timeZone, locale).getClass() != GregorianCalendar.class ||
+            DecimalFormatSymbols.getInstance(locale).getZeroDigit() != '0')
+        {
+            return null;
+        }
+        List<Token> tokens = new ArrayList<>();
+        // ExtendedDateFormat inserts fraction at the pattern position, so all preceding fields must have fixed width
+        boolean fixedWidth = true;
+        boolean hasFraction = false;
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); ) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return null;
+                }
+                if (end == i + 1) {
+                    literal.append('\'');
+                } else {
+                    literal.append(pattern, i + 1, end);
+                }
+                i = end + 1;
+                continue;
+            }
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                if (c == '[' || c == ']') {
+                    // Optional sections are not supported
+                    return null;
+                }
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && isSameField(c, pattern.charAt(i + count))) {
+                count++;
+            }
+            i += count;
+            if (literal.length() > 0) {
+                tokens.add(new Token(FIELD_LITERAL, 0, literal.toString()));
+                literal.setLength(0);
+            }
+            switch (c) {
+                case 'y':
+                    if (count != 2 && count != 4) {
+                        fixedWidth = false;
+                    }
+                    break;
+                case 'M':
+                    if (count > 2) {
+                        // Month names are locale-specific
+                        return null;
+                    }
+                    // fall through
+                case 'd':
+                case 'H':
+                case 'm':
+                case 's':
+                    if (count != 2) {
+                        fixedWidth = false;
+                    }
+                    break;
+                case 'S':
+                case 'f':
+                    if (hasFraction || !fixedWidth) {
+                        return null;
+                    }
+                    hasFraction = true;
+                    c = 'f';
+                    break;
+                case 'Z':
+                    if (count > 3) {
+                        return null;
+                    }
+                    fixedWidth = false;
+                    break;
+                default:
+                    return null;
+            }
+            tokens.add(new Token(c, count, null));
+        }
+        if (literal.length() > 0) {
+            tokens.add(new Token(FIELD_LITERAL, 0, literal.toString()));
+        }
+        return new CompiledDateFormat(tokens.toArray(new Token[0]), timeZone);
+    }
+
+    private static boolean isSameField(char c1, char c2) {
+        return c1 == c2 || ((c1 == 'S' || c1 == 'f') && (c2 == 'S' || c2 == 'f'));
+    }
+
+    /**
+     * Formats date.
+     *
+     * @return null if date is out of supported range
+     */
+    @Nullable
+    public String format(@NotNull Date date) {
+        long time = date.getTime();
+        if (time < MIN_SUPPORTED_TIME || time > MAX_SUPPORTED_TIME) {
+            return null;
+        }
+        long epochSecond = Math.floorDiv(time, 1000);
+        ZoneOffset offset = zoneRules.getOffset(java.time.Instant.ofEpochSecond(epochSecond));
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+        int nanos = date instanceof Timestamp ? ((Timestamp) date).getNanos() : 0;
+
+        StringBuilder result = new StringBuilder(32);
+        for (Token token : tokens) {
+            switch (token.field) {
+                case FIELD_LITERAL:
+                    result.append(token.literal);
+                    break;
+                case 'y':
+                    if (token.count == 2) {
+                        appendNumber(result, dateTime.getYear() % 100, 2);
+                    } else {
+                        appendNumber(result, dateTime.getYear(), token.count);
+                    }
+                    break;
+                case 'M':
+                    appendNumber(result, dateTime.getMonthValue(), token.count);
+                    break;
+                case 'd':
+                    appendNumber(result, dateTime.getDayOfMonth(), token.count);
+                    break;
+                case 'H':
+                    appendNumber(result, dateTime.getHour(), token.count);
+                    break;
+                case 'm':
+                    appendNumber(result, dateTime.getMinute(), token.count);
+                    break;
+                case 's':
+                    appendNumber(result, dateTime.getSecond(), token.count);
+                    break;
+                case 'f':
+                    appendFraction(result, nanos, token.count);
+                    break;
+                case 'Z': {
+                    int offsetMinutes = offset.getTotalSeconds() / 60;
+                    if (offsetMinutes < 0) {
+                        result.append('-');
+                        offsetMinutes = -offsetMinutes;
+                    } else {
+                        result.append('+');
+                    }
+                    appendNumber(result, offsetMinutes / 60, 2);
+                    appendNumber(result, offsetMinutes % 60, 2);
+                    break;
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    private static void appendNumber(StringBuilder result, int value, int minDigits) {
+        if (minDigits > 1) {
+            for (int limit = 10, i = 1; i < minDigits; i++, limit *= 10) {
+                if (value < limit) {
+                    result.append('0');
+                }
+            }
+        }
+        result.append(value);
+    }
+
+    private static void appendFraction(StringBuilder result, int nanos, int digits) {
+        // Nine digits of nanoseconds, truncated or left-padded with zeroes (the same way ExtendedDateFormat does)
+        for (int i = 9; i < digits; i++) {
+            result.append('0');
+        }
+        for (int i = 0, divider = 100000000; i < digits && i < 9; i++, divider /= 10) {
+            result.append((char) ('0' + (nanos / divider) % 10));
+        }
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.jkiss.dbeaver.tools.compare.simple;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
@@ -27,6 +29,7 @@ import org.jkiss.dbeaver.model.navigator.DBNDatabaseFolder;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressListener;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.SubTaskProgressMonitor;
@@ -50,7 +53,8 @@ public class CompareObjectsExecutor {
     private final DBRProgressListener initializeFinisher;
     private final ILazyPropertyLoadListener lazyPropertyLoadListener;
 
-    private volatile int initializedCount = 0;
+    private final Object initializeLock = new Object();
+    private int initializedCount = 0;
     private volatile IStatus initializeError;
     private final Map<Object, Map<DBPPropertyDescriptor, Object>> propertyValues = new IdentityHashMap<>();
 
@@ -124,10 +128,13 @@ public class CompareObjectsExecutor {
             @Override
             public void onTaskFinished(IStatus status)
             {
-                if (!status.isOK()) {
-                    initializeError = status;
-                } else {
-                    initializedCount++;
+                synchronized (initializeLock) {
+                    if (!status.isOK()) {
+                        initializeError = status;
+                    } else {
+                        initializedCount++;
+                    }
+                    initializeLock.notifyAll();
                 }
             }
         };
@@ -190,8 +197,10 @@ public class CompareObjectsExecutor {
         boolean onlyStruct = settings.isCompareOnlyStructure();
 
         // Clear compare singletons
-        this.initializedCount = 0;
-        this.initializeError = null;
+        synchronized (initializeLock) {
+            this.initializedCount = 0;
+            this.initializeError = null;
+        }
         this.propertyValues.clear();
 
         StringBuilder title = new StringBuilder();
@@ -204,13 +213,16 @@ public class CompareObjectsExecutor {
                 node.initializeNode(null, initializeFinisher);
                 monitor.worked(1);
             }
-            while (initializedCount != nodes.size()) {
-                if (initializeError != null) {
-                    throw new DBException(initializeError.getMessage());
-                }
-                Thread.sleep(50);
-                if (monitor.isCanceled()) {
-                    throw new InterruptedException();
+            synchronized (initializeLock) {
+                // Nodes are usually initialized immediately, only connecting datasources finish asynchronously
+                while (initializedCount != nodes.size()) {
+                    if (initializeError != null) {
+                        throw new DBException(initializeError.getMessage());
+                    }
+                    initializeLock.wait(100);
+                    if (monitor.isCanceled()) {
+                        throw new InterruptedException();
+                    }
                 }
             }
         }
@@ -295,23 +307,46 @@ public class CompareObjectsExecutor {
         List<DBNDatabaseNode[]> allChildren = new ArrayList<>(nodeCount);
         // Use submonitor to avoid huge number of tasks
         DBRProgressMonitor subMonitor = new SubTaskProgressMonitor(monitor);
-        for (int i = 0; i < nodeCount; i++) {
-            DBNDatabaseNode node = nodes.get(i);
-            // Cache structure if possible
-            if (node.getObject() instanceof DBSObjectContainer) {
-                ((DBSObjectContainer) node.getObject()).cacheStructure(subMonitor, DBSObjectContainer.STRUCT_ALL);
+        if (isParallelLoadPossible(nodes)) {
+            List<ChildrenLoadJob> loadJobs = new ArrayList<>(nodeCount);
+            for (DBNDatabaseNode node : nodes) {
+                ChildrenLoadJob loadJob = new ChildrenLoadJob(monitor, node);
+                loadJobs.add(loadJob);
+                loadJob.schedule();
             }
             try {
-                DBNDatabaseNode[] children = node.getChildren(subMonitor);
-                allChildren.add(children);
-            } catch (Exception e) {
-                log.warn("Error reading child nodes for compare", e);
-                allChildren.add(null);
+                for (ChildrenLoadJob loadJob : loadJobs) {
+                    loadJob.join(0, monitor.getNestedMonitor());
+                    if (loadJob.error != null) {
+                        throw loadJob.error;
+                    }
+                    allChildren.add(loadJob.children);
+                }
+            } catch (OperationCanceledException | DBException e) {
+                // Stop reading of other nodes
+                for (ChildrenLoadJob loadJob : loadJobs) {
+                    loadJob.cancel();
+                }
+                if (e instanceof DBException) {
+                    throw (DBException) e;
+                }
+                throw new InterruptedException();
+            }
+            if (monitor.isCanceled()) {
+                throw new InterruptedException();
+            }
+        } else {
+            for (DBNDatabaseNode node : nodes) {
+                allChildren.add(loadChildren(subMonitor, node));
             }
         }
 
+        // Index children by name, so matching does not depend on the number of children
         Set<String> allChildNames = new LinkedHashSet<>();
+        List<Map<String, DBNDatabaseNode>> childrenByName = new ArrayList<>(nodeCount);
         for (DBNDatabaseNode[] childList : allChildren) {
+            Map<String, DBNDatabaseNode> childMap = new HashMap<>();
+            childrenByName.add(childMap);
             if (childList == null) continue;
             for (DBNDatabaseNode child : childList) {
                 DBXTreeNode meta = child.getMeta();
@@ -323,40 +358,18 @@ public class CompareObjectsExecutor {
                     // Skip system objects
                     continue;
                 }
-                allChildNames.add(child.getNodeName());
+                String childName = child.getNodeName();
+                allChildNames.add(childName);
+                childMap.putIfAbsent(childName, child);
             }
         }
 
         for (String childName : allChildNames) {
-            int[] childIndexes = new int[nodeCount];
-            for (int i = 0; i < nodeCount; i++) {
-                childIndexes[i] = -1;
-                DBNDatabaseNode[] childList = allChildren.get(i);
-                if (childList == null) continue;
-                for (int k = 0; k < childList.length; k++) {
-                    DBNDatabaseNode child = childList[k];
-                    if (child.getNodeName().equals(childName)) {
-                        childIndexes[i] = k;
-                        break;
-                    }
-                }
-            }
-
             List<DBNDatabaseNode> nodesToCompare = new ArrayList<>(nodeCount);
             for (int i = 0; i < nodeCount; i++) {
-                if (childIndexes[i] == -1) {
-                    // Missing
-                } else {
-                    for (int k = 0; k < nodeCount; k++) {
-                        if (k != i && childIndexes[k] != childIndexes[i]) {
-                            // Wrong index - add to report
-                            break;
-                        }
-                    }
-                    final DBNDatabaseNode[] childList = allChildren.get(i);
-                    if (childList != null) {
-                        nodesToCompare.add(childList[childIndexes[i]]);
-                    }
+                DBNDatabaseNode child = childrenByName.get(i).get(childName);
+                if (child != null) {
+                    nodesToCompare.add(child);
                 }
             }
             // Compare children recursively
@@ -364,6 +377,30 @@ public class CompareObjectsExecutor {
         }
     }
 
+    private static DBNDatabaseNode[] loadChildren(DBRProgressMonitor monitor, DBNDatabaseNode node) throws DBException {
+        // Cache structure if possible
+        if (node.getObject() instanceof DBSObjectContainer) {
+            ((DBSObjectContainer) node.getObject()).cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+        }
+        return node.getChildren(monitor);
+    }
+
+    /**
+     * Structure of containers from different datasources can be read simultaneously.
+     * Nodes of the same datasource share the metadata connection, so they are read one by one.
+     */
+    private static boolean isParallelLoadPossible(List<DBNDatabaseNode> nodes) {
+        if (nodes.size() < 2 || !(nodes.get(0).getObject() instanceof DBSObjectContainer)) {
+            return false;
+        }
+        Set<DBPDataSource> dataSources = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DBNDatabaseNode node : nodes) {
+            if (!dataSources.add(node.getDataSource())) {
+                return false;
+            }
+        }
+        return true;
+    }
 
     private DataSourcePropertyFilter getDataSourceFilter(DBNDatabaseNode node)
     {
@@ -379,4 +416,40 @@ public class CompareObjectsExecutor {
         return filter;
     }
 
-}
\ No newline at end of file
+    private static class ChildrenLoadJob extends AbstractJob {
+
+        private final DBRProgressMonitor parentMonitor;
+        private final DBNDatabaseNode node;
+        private volatile DBNDatabaseNode[] children;
+        private volatile DBException error;
+
+        ChildrenLoadJob(DBRProgressMonitor parentMonitor, DBNDatabaseNode node)
+        {
+            super("Read children of " + node.getNodeName());
+            setSystem(true);
+            this.parentMonitor = parentMonitor;
+            this.node = node;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            if (parentMonitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+            synchronized (parentMonitor) {
+                parentMonitor.subTask("Read structure of " + node.getNodeFullName());
+            }
+            try {
+                children = loadChildren(monitor, node);
+            } catch (DBException e) {
+                // Reported by compare job. Missing children would be shown as differences.
+                error = e;
+            } catch (Throwable e) {
+                error = new DBException("Error reading children of " + node.getNodeFullName(), e);
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
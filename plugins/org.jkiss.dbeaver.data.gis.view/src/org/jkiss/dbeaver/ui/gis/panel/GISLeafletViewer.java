@@ -81,7 +81,10 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceListener {
     private static final Log log = Log.getLog(GISLeafletViewer.class);
@@ -93,6 +96,9 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
     private static final String PROP_FLIP_COORDINATES = "gis.flipCoords";
     private static final String PROP_SRID = "gis.srid";
 
+    // SVG layer per feature is too slow for big amounts of objects, canvas renderer draws only visible ones
+    private static final int MIN_CANVAS_RENDER_OBJECTS = 1000;
+
     private volatile boolean browserCreating = false;
 
     private static final Gson gson = new GsonBuilder()
@@ -115,6 +121,25 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
     private boolean flipCoordinates = false;
     private final Composite composite;
 
+    // Geometries of the last rendered values converted to the map CRS. Redraw after selection change or
+    // toolbar action doesn't repeat coordinates transformation.
+    private Map<DBGeometry, RenderedGeometry> renderCache = new IdentityHashMap<>();
+    private String renderCacheKey;
+
+    private static class RenderedGeometry {
+        @Nullable
+        private final String text;
+        private final int sourceSRID;
+        @Nullable
+        private final Boolean showMap;
+
+        RenderedGeometry(@Nullable Object targetValue, int sourceSRID, @Nullable Boolean showMap) {
+            this.text = targetValue == null ? null : targetValue.toString();
+            this.sourceSRID = sourceSRID;
+            this.showMap = showMap;
+        }
+    }
+
     public GISLeafletViewer(Composite parent, @NotNull DBDAttributeBinding[] bindings, @Nullable SpatialDataProvider spatialDataProvider, @Nullable IResultSetPresentation presentation) {
         this.bindings = bindings;
         this.presentation = presentation;
@@ -336,64 +361,27 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         List<String> geomValues = new ArrayList<>();
         List<String> geomTipValues = new ArrayList<>();
         boolean showMap = false;
-        for (int i = 0; i < values.length; i++) {
-            DBGeometry value = values[i];
+        String cacheKey = sourceSRID + ":" + attributeSrid + ":" + GeometryDataUtils.getDefaultSRID() + ":" + flipCoordinates;
+        Map<DBGeometry, RenderedGeometry> oldCache = cacheKey.equals(renderCacheKey) ? renderCache : Collections.emptyMap();
+        Map<DBGeometry, RenderedGeometry> newCache = new IdentityHashMap<>();
+        for (DBGeometry value : values) {
             if (DBUtils.isNullValue(value)) {
                 continue;
             }
-            if (flipCoordinates) {
-                try {
-                    value = value.flipCoordinates();
-                } catch (DBException e) {
-                    log.error(e);
-                }
+            RenderedGeometry rendered = oldCache.get(value);
+            if (rendered == null) {
+                rendered = renderGeometry(value, attributeSrid);
             }
-            try {
-                value = value.force2D();
-            } catch (DBException e) {
-                log.error("Error forcing geometry to 2D", e);
-            }
-            Object targetValue = value.getRawValue();
-            if (WKGUtils.isCurve(targetValue)) {
-                targetValue = WKGUtils.linearize((org.cugos.wkg.Geometry) targetValue);
-            }
-            int srid = sourceSRID == 0 ? value.getSRID() : sourceSRID;
-            if (srid == GisConstants.SRID_SIMPLE) {
-                srid = attributeSrid;
-            }
-            if (srid == 0) {
-                srid = GeometryDataUtils.getDefaultSRID();
-            }
-            if (srid == GisConstants.SRID_SIMPLE) {
-                showMap = false;
-                actualSourceSRID = srid;
-            } else if (srid == GisConstants.SRID_4326) {
-                showMap = true;
-                actualSourceSRID = srid;
-            } else {
-                Geometry geometry = GisTransformUtils.getJtsGeometry(targetValue);
-                if (geometry != null) {
-                    try {
-                        GisTransformRequest request = new GisTransformRequest(geometry, srid, GisConstants.SRID_4326);
-                        GisTransformUtils.transformGisData(request);
-                        targetValue = request.getTargetValue();
-                        srid = request.getTargetSRID();
-                        actualSourceSRID = request.getSourceSRID();
-                        showMap = request.isShowOnMap();
-                    } catch (DBException e) {
-                        log.debug("Error transforming CRS", e);
-                        actualSourceSRID = srid;
-                        showMap = false;
-                    }
-                } else {
-                    actualSourceSRID = srid;
-                }
+            newCache.put(value, rendered);
+            actualSourceSRID = rendered.sourceSRID;
+            if (rendered.showMap != null) {
+                showMap = rendered.showMap;
             }
 
-            if (targetValue == null) {
+            if (rendered.text == null) {
                 continue;
             }
-            geomValues.add("'" + targetValue + "'");
+            geomValues.add("'" + rendered.text + "'");
             try {
                 if (CommonUtils.isEmpty(value.getProperties())) {
                     geomTipValues.add("null");
@@ -404,11 +392,14 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
                 log.debug(e);
             }
         }
+        renderCache = newCache;
+        renderCacheKey = cacheKey;
         this.defaultSRID = actualSourceSRID;
         String geomValuesString = String.join(",", geomValues);
         String geomTipValuesString = String.join(",", geomTipValues);
         String geomCRS = actualSourceSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
         boolean isShowMap = showMap;
+        boolean preferCanvas = geomValues.size() >= MIN_CANVAS_RENDER_OBJECTS;
 
         InputStream fis = GISViewerActivator.getDefault().getResourceStream(GISBrowserViewerConstants.VIEW_TEMPLATE_PATH);
         if (fis == null) {
@@ -426,6 +417,8 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
                         return String.valueOf(defaultSRID);
                     case "showMap":
                         return String.valueOf(isShowMap);
+                    case "preferCanvas":
+                        return String.valueOf(preferCanvas);
                     case "showTools":
                         return String.valueOf(toolsVisible);
                     case "showLabels":
@@ -455,6 +448,52 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         return scriptFile;
     }
 
+    @NotNull
+    private RenderedGeometry renderGeometry(@NotNull DBGeometry value, int attributeSrid) {
+        if (flipCoordinates) {
+            try {
+                value = value.flipCoordinates();
+            } catch (DBException e) {
+                log.error(e);
+            }
+        }
+        try {
+            value = value.force2D();
+        } catch (DBException e) {
+            log.error("Error forcing geometry to 2D", e);
+        }
+        Object targetValue = value.getRawValue();
+        if (WKGUtils.isCurve(targetValue)) {
+            targetValue = WKGUtils.linearize((org.cugos.wkg.Geometry) targetValue);
+        }
+        int srid = sourceSRID == 0 ? value.getSRID() : sourceSRID;
+        if (srid == GisConstants.SRID_SIMPLE) {
+            srid = attributeSrid;
+        }
+        if (srid == 0) {
+            srid = GeometryDataUtils.getDefaultSRID();
+        }
+        if (srid == GisConstants.SRID_SIMPLE) {
+            return new RenderedGeometry(targetValue, srid, false);
+        } else if (srid == GisConstants.SRID_4326) {
+            return new RenderedGeometry(targetValue, srid, true);
+        } else {
+            Geometry geometry = GisTransformUtils.getJtsGeometry(targetValue);
+            if (geometry != null) {
+                try {
+                    GisTransformRequest request = new GisTransformRequest(geometry, srid, GisConstants.SRID_4326);
+                    GisTransformUtils.transformGisData(request);
+                    return new RenderedGeometry(request.getTargetValue(), request.getSourceSRID(), request.isShowOnMap());
+                } catch (DBException e) {
+                    log.debug("Error transforming CRS", e);
+                    return new RenderedGeometry(targetValue, srid, false);
+                }
+            } else {
+                return new RenderedGeometry(targetValue, srid, null);
+            }
+        }
+    }
+
     private void checkIncludesExistence(Path scriptDir) throws IOException {
         Path incFolder = scriptDir.resolve("inc");
         if (!Files.exists(incFolder)) {
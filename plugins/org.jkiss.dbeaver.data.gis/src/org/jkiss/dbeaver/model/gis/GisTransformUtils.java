@@ -48,7 +48,9 @@ import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -78,6 +80,40 @@ public class GisTransformUtils {
 
     private static List<Integer> crsCodes;
 
+    /**
+     * Source and target CRS with the most precise operation between them.
+     * Creating the operation set is much more expensive than transforming a geometry, so it is done once per SRID pair.
+     */
+    private static class CRSTransformation {
+        private final CoordinateReferenceSystem sourceCRS;
+        private final CoordinateReferenceSystem targetCRS;
+        private boolean operationResolved;
+        @Nullable
+        private CoordinateOperation operation;
+
+        CRSTransformation(CoordinateReferenceSystem sourceCRS, CoordinateReferenceSystem targetCRS) {
+            this.sourceCRS = sourceCRS;
+            this.targetCRS = targetCRS;
+        }
+
+        @Nullable
+        synchronized CoordinateOperation getOperation() throws CoordinateOperationException {
+            if (!operationResolved) {
+                if (sourceCRS instanceof GeodeticCRS && targetCRS instanceof GeodeticCRS) {
+                    Set<CoordinateOperation> coordOps = CoordinateOperationFactory.createCoordinateOperations(
+                        (GeodeticCRS) sourceCRS, (GeodeticCRS) targetCRS);
+                    if (!coordOps.isEmpty()) {
+                        operation = CoordinateOperationFactory.getMostPrecise(coordOps);
+                    }
+                }
+                operationResolved = true;
+            }
+            return operation;
+        }
+    }
+
+    private static final Map<String, CRSTransformation> transformationCache = new HashMap<>();
+
     public static CRSFactory getCRSFactory() {
         return crsFactory;
     }
@@ -101,11 +137,15 @@ public class GisTransformUtils {
     public static void transformGisData(GisTransformRequest request) throws DBException {
         try {
             //srcSRID = 3857;
-            CoordinateReferenceSystem crs1 = crsFactory.getCRS("EPSG:" + request.getSourceSRID());
-            CoordinateReferenceSystem crs2 = crsFactory.getCRS("EPSG:" + request.getTargetSRID());
+            CRSTransformation transformation = getTransformation(request.getSourceSRID(), request.getTargetSRID());
+            CoordinateReferenceSystem crs1 = transformation.sourceCRS;
+            CoordinateReferenceSystem crs2 = transformation.targetCRS;
 
             try {
-                Geometry targetValue = transformGisData(request.getSourceValue(), crs1, crs2);
+                CoordinateOperation operation = transformation.getOperation();
+                Geometry targetValue = operation == null ?
+                    request.getSourceValue() :
+                    transformGeometry(request.getSourceValue(), operation);
                 targetValue.setSRID(request.getTargetSRID());
                 request.setTargetValue(targetValue);
                 request.setShowOnMap(true);
@@ -126,6 +166,21 @@ public class GisTransformUtils {
         }
     }
 
+    @NotNull
+    private static CRSTransformation getTransformation(int sourceSRID, int targetSRID) throws CRSException {
+        String key = sourceSRID + ":" + targetSRID;
+        synchronized (transformationCache) {
+            CRSTransformation transformation = transformationCache.get(key);
+            if (transformation == null) {
+                transformation = new CRSTransformation(
+                    crsFactory.getCRS("EPSG:" + sourceSRID),
+                    crsFactory.getCRS("EPSG:" + targetSRID));
+                transformationCache.put(key, transformation);
+            }
+            return transformation;
+        }
+    }
+
     private static Geometry transformGeometryTo(ProjectedCRS projectedCRS, Geometry geometry) throws CoordinateOperationException, IllegalCoordinateException {
         CoordinateOperation coordinateOperation = projectedCRS.toGeographicCoordinateConverter();
         for (Coordinate coord : geometry.getCoordinates()) {
@@ -81,6 +81,7 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
 
     private static final String PROP_DATE_FORMAT = "dateFormat";
     private static final String PROP_APPEND_STRATEGY = "appendStrategy";
+    private static final String PROP_SHARED_STRINGS = "sharedStrings";
 
     private static final int EXCEL2007MAXROWS = 1048575;
     private static final int EXCEL_MAX_CELL_CHARACTERS = 32767; // Total number of characters that a cell can contain - 32,767 characters
@@ -93,6 +94,7 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
     private String nullString;
 
     private DBDAttributeBinding[] columns;
+    private CellType[] columnCellTypes;
     private DBDAttributeDecorator decorator;
 
     private SXSSFWorkbook wb;
@@ -115,6 +117,8 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
     private XSSFCellStyle style;
     private XSSFCellStyle styleDate;
     private XSSFCellStyle styleHeader;
+    // Cell styles with decorator background, one per color
+    private final Map<String, XSSFCellStyle> backgroundStyles = new HashMap<>();
 
     private HashMap<Object, Worksheet> worksheets;
 
@@ -134,6 +138,7 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
         properties.put(DataExporterXLSX.PROP_SPLIT_BYCOL, 0);
         properties.put(DataExporterXLSX.PROP_DATE_FORMAT, "");
         properties.put(DataExporterXLSX.PROP_APPEND_STRATEGY, AppendStrategy.CREATE_NEW_SHEETS.value);
+        properties.put(DataExporterXLSX.PROP_SHARED_STRINGS, false);
         return properties;
     }
 
@@ -158,10 +163,11 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
         appendStrategy = AppendStrategy.of(CommonUtils.toString(properties.get(PROP_APPEND_STRATEGY)));
 
         if (wb == null) {
-            wb = new SXSSFWorkbook(ROW_WINDOW);
+            wb = new SXSSFWorkbook(null, ROW_WINDOW, false, isUseSharedStrings(properties));
         }
 
         worksheets = new HashMap<>(1);
+        backgroundStyles.clear();
         styleHeader = (XSSFCellStyle) wb.createCellStyle();
 
         BorderStyle border = CommonUtils.valueOf(
@@ -278,6 +284,10 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
     public void exportHeader(DBCSession session) throws DBException {
 
         columns = getSite().getAttributes();
+        columnCellTypes = new CellType[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnCellTypes[i] = getCellType(columns[i]);
+        }
         if (headerFormat.hasDescription()) {
             DBSEntity srcEntity = DBUtils.getAdapter(DBSEntity.class, getSite().getSource());
             DBExecUtils.bindAttributes(session, srcEntity, null, columns, null);
@@ -433,7 +443,7 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
 
         for (int i = 0; i < row.length; i++) {
             DBDAttributeBinding column = columns[i];
-            Cell cell = rowX.createCell(i + startCol, getCellType(column));
+            Cell cell = rowX.createCell(i + startCol, columnCellTypes[i]);
             cell.setCellStyle(getCellStyle(column, rowCount));
 
             if (DBUtils.isNullValue(row[i])) {
@@ -526,7 +536,10 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
         try {
             wb = new SXSSFWorkbook(
                 new XSSFWorkbook(
-                    Files.newInputStream(file)));
+                    Files.newInputStream(file)),
+                ROW_WINDOW,
+                false,
+                isUseSharedStrings(site.getProperties()));
         } catch (Exception e) {
             throw new DBException("Error opening workbook", e);
         }
@@ -537,6 +550,11 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
         return true;
     }
 
+    private static boolean isUseSharedStrings(@NotNull Map<String, Object> properties) {
+        // Shared strings make files with repeating values smaller, inline strings don't keep all strings in memory
+        return CommonUtils.getBoolean(properties.get(PROP_SHARED_STRINGS), false);
+    }
+
     private int getPhysicalNumberOfRows(@NotNull Sheet sheet) {
         return wb.getXSSFWorkbook().getSheetAt(wb.getSheetIndex(sheet)).getPhysicalNumberOfRows();
     }
@@ -559,11 +577,16 @@ public class DataExporterXLSX extends StreamExporterAbstract implements IAppenda
             final String bg = decorator.getCellBackground(attribute, row);
 
             if (bg != null) {
-                // Setting the foreground color sets the background color. Is this a bug/feature of POI?
-                final XSSFCellStyle style = (XSSFCellStyle) this.style.clone();
-                style.setFillForegroundColor(new XSSFColor(asColor(bg), new DefaultIndexedColorMap()));
-                style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
+                // Reuse styles: workbook can't have more than 64000 cell styles, and each of them is written into styles.xml
+                XSSFCellStyle style = backgroundStyles.get(bg);
+                if (style == null) {
+                    style = (XSSFCellStyle) wb.createCellStyle();
+                    style.cloneStyleFrom(this.style);
+                    // Setting the foreground color sets the background color. Is this a bug/feature of POI?
+                    style.setFillForegroundColor(new XSSFColor(asColor(bg), new DefaultIndexedColorMap()));
+                    style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+                    backgroundStyles.put(bg, style);
+                }
                 return style;
             }
         }
@@ -88,6 +88,8 @@ public class DataTransferJob implements DBRRunnableWithProgress {
                 }
             } catch (Exception e) {
                 throw new InvocationTargetException(e);
+            } finally {
+                settings.releaseDataPipe(monitor, task);
             }
         }
         monitor.done();
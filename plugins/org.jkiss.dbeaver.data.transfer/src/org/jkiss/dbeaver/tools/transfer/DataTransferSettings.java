@@ -82,6 +82,9 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
     private transient boolean nodeSettingsLoaded = false;
 
     private transient int curPipeNum = 0;
+    // Number of acquired but not yet released pipes. Transfer end is signaled only after all of them are released.
+    private transient int activePipes = 0;
+    private transient boolean transferEndSignaled = false;
 
     private boolean showFinalMessage = true;
     // Hacky flag. Says that pipe selection is frozen.
@@ -592,19 +595,39 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
     public synchronized DataTransferPipe acquireDataPipe(@NotNull DBRProgressMonitor monitor, @Nullable DBTTask task) {
         if (curPipeNum >= dataPipes.size()) {
             // End of transfer
-            // Signal last pipe about it
-            if (!dataPipes.isEmpty()) {
-                dataPipes.get(dataPipes.size() - 1).getConsumer().finishTransfer(monitor, null, task, true);
-            }
+            signalTransferEnd(monitor, task);
             return null;
         }
 
         DataTransferPipe result = dataPipes.get(curPipeNum);
 
         curPipeNum++;
+        activePipes++;
         return result;
     }
 
+    /**
+     * Releases pipe acquired by {@link #acquireDataPipe}.
+     * Pipes may be processed by several jobs simultaneously, so the last pipe may finish before others.
+     */
+    public synchronized void releaseDataPipe(@NotNull DBRProgressMonitor monitor, @Nullable DBTTask task) {
+        activePipes--;
+        if (curPipeNum >= dataPipes.size()) {
+            signalTransferEnd(monitor, task);
+        }
+    }
+
+    private void signalTransferEnd(@NotNull DBRProgressMonitor monitor, @Nullable DBTTask task) {
+        if (activePipes > 0 || transferEndSignaled) {
+            return;
+        }
+        transferEndSignaled = true;
+        // Signal last pipe about it
+        if (!dataPipes.isEmpty()) {
+            dataPipes.get(dataPipes.size() - 1).getConsumer().finishTransfer(monitor, null, task, true);
+        }
+    }
+
     public DataTransferNodeDescriptor getProducer() {
         return producer;
     }
@@ -185,7 +185,8 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
         assert (dataSource != null);
 
         DBExecUtils.tryExecuteRecover(monitor1, dataSource, monitor -> {
-            long readFlags = DBSDataContainer.FLAG_NONE;
+            // Rows go directly to the consumer, so result set may be streamed from server
+            long readFlags = DBSDataContainer.FLAG_STREAM_RESULTS;
             if (settings.isSelectedColumnsOnly()) {
                 readFlags |= DBSDataContainer.FLAG_USE_SELECTED_COLUMNS;
             }
@@ -16,13 +16,17 @@
  */
 package org.jkiss.dbeaver.tools.transfer.task;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTTaskExecutionListener;
 import org.jkiss.dbeaver.model.task.DBTTaskHandler;
@@ -35,6 +39,7 @@ import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
 
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -155,19 +160,81 @@ public class DTTaskHandlerTransfer implements DBTTaskHandler {
         if (totalJobs > settings.getMaxJobCount()) {
             totalJobs = settings.getMaxJobCount();
         }
-        Throwable error = null;
-        for (int i = 0; i < totalJobs; i++) {
+        if (totalJobs <= 1) {
             DataTransferJob job = new DataTransferJob(settings, task, locale, log, listener);
             try {
                 runnableContext.run(true, true, job);
                 totalStatistics.accumulate(job.getTotalStatistics());
             } catch (InvocationTargetException e) {
-                error = e.getTargetException();
+                return e.getTargetException();
             } catch (InterruptedException e) {
-                break;
+                // ignore
+            }
+            return null;
+        }
+
+        // Run transfer jobs simultaneously. All of them take pipes from the same queue.
+        int workerCount = totalJobs;
+        Throwable[] error = new Throwable[1];
+        try {
+            runnableContext.run(true, true, monitor -> {
+                List<TransferWorkerJob> workers = new ArrayList<>();
+                for (int i = 1; i < workerCount; i++) {
+                    TransferWorkerJob worker = new TransferWorkerJob(
+                        new DataTransferJob(settings, task, locale, log, listener), monitor);
+                    workers.add(worker);
+                    worker.schedule();
+                }
+                DataTransferJob mainJob = new DataTransferJob(settings, task, locale, log, listener);
+                try {
+                    mainJob.run(monitor);
+                } catch (InvocationTargetException e) {
+                    error[0] = e.getTargetException();
+                } finally {
+                    totalStatistics.accumulate(mainJob.getTotalStatistics());
+                }
+                for (TransferWorkerJob worker : workers) {
+                    worker.join();
+                    totalStatistics.accumulate(worker.transferJob.getTotalStatistics());
+                    if (error[0] == null) {
+                        error[0] = worker.error;
+                    }
+                }
+            });
+        } catch (InvocationTargetException e) {
+            error[0] = e.getTargetException();
+        } catch (InterruptedException e) {
+            // ignore
+        }
+        return error[0];
+    }
+
+    private static class TransferWorkerJob extends AbstractJob {
+        private final DataTransferJob transferJob;
+        private final DBRProgressMonitor parentMonitor;
+        private volatile Throwable error;
+
+        TransferWorkerJob(@NotNull DataTransferJob transferJob, @NotNull DBRProgressMonitor parentMonitor) {
+            super("Data transfer worker");
+            setSystem(true);
+            this.transferJob = transferJob;
+            this.parentMonitor = parentMonitor;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                transferJob.run(new ProxyProgressMonitor(monitor) {
+                    @Override
+                    public boolean isCanceled() {
+                        return super.isCanceled() || parentMonitor.isCanceled();
+                    }
+                });
+            } catch (InvocationTargetException e) {
+                error = e.getTargetException();
             }
+            return Status.OK_STATUS;
         }
-        return error;
     }
 
     private void restoreReferentialIntegrity(@NotNull DBRRunnableContext runnableContext,
@@ -39,6 +39,12 @@ public class DiagramObjectCollector {
 
     private static final Log log = Log.getLog(DiagramObjectCollector.class);
 
+    /**
+     * If at least this number of tables is taken from the same container then
+     * attributes and associations of the whole container are read at once.
+     */
+    private static final int BULK_LOAD_MIN_ENTITIES = 10;
+
     private final ERDDiagram diagram;
     private final List<ERDEntity> erdEntities = new ArrayList<>();
     private boolean showViews;
@@ -147,6 +153,7 @@ public class DiagramObjectCollector {
         throws DBException
     {
         Collection<DBSEntity> tables = collectTables(monitor, roots, settings, showViews);
+        cacheEntitiesStructure(monitor, tables);
         for (DBSEntity table : tables) {
             if (DBUtils.isHiddenObject(table)) {
                 // Skip hidden tables
@@ -161,6 +168,35 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Reads attributes and associations of containers with many diagram tables by one request per container
+     * instead of one request per table.
+     */
+    private static void cacheEntitiesStructure(DBRProgressMonitor monitor, Collection<DBSEntity> tables) {
+        Map<DBSObjectContainer, Integer> containerTables = new IdentityHashMap<>();
+        for (DBSEntity table : tables) {
+            DBSObjectContainer container = DBUtils.getParentOfType(DBSObjectContainer.class, table);
+            if (container != null) {
+                containerTables.merge(container, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<DBSObjectContainer, Integer> entry : containerTables.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (entry.getValue() < BULK_LOAD_MIN_ENTITIES) {
+                continue;
+            }
+            DBSObjectContainer container = entry.getKey();
+            monitor.subTask("Load '" + container.getName() + "' structure");
+            try {
+                container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ATTRIBUTES | DBSObjectContainer.STRUCT_ASSOCIATIONS);
+            } catch (DBException e) {
+                log.debug("Error caching structure of '" + container.getName() + "'", e);
+            }
+        }
+    }
+
     private void addDiagramEntity(DBRProgressMonitor monitor, DBSEntity table)
     {
         if (diagram.containsTable(table) && !diagram.getContentProvider().allowEntityDuplicates()) {
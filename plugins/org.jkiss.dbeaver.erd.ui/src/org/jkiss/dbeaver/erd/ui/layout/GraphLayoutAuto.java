@@ -62,7 +62,11 @@ public class GraphLayoutAuto extends AbstractLayout
 	@Override
     public void layout(IFigure container)
 	{
-        Animation.markBegin();
+        // Animation of big diagrams takes longer than the layout itself
+        boolean animate = container.getChildren().size() <= DirectedGraphLayoutVisitor.MAX_DIRECTED_LAYOUT_NODES;
+        if (animate) {
+            Animation.markBegin();
+        }
 /*
 		GraphAnimation.recordInitialState(container);
 		if (GraphAnimation.playbackState(container))
@@ -74,7 +78,9 @@ public class GraphLayoutAuto extends AbstractLayout
         diagram.setTableModelBounds();
         //new ZestGraphLayout().layoutDiagram(diagram);
 
-        Animation.run(400);
+        if (animate) {
+            Animation.run(400);
+        }
 	}
 	
 }
\ No newline at end of file
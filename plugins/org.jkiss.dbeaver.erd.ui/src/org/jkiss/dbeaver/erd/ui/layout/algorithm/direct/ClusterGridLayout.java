@@ -0,0 +1,113 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout.algorithm.direct;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.Node;
+
+import java.util.*;
+
+/**
+ * Layout for big graphs where DirectedGraphLayout is too slow.
+ * Nodes of each connected cluster are placed next to each other (in breadth-first order),
+ * clusters are placed one after another, biggest first. Rows are filled up to the width
+ * which gives the requested aspect ratio of the whole diagram.
+ * Works in linear time, edges are not routed.
+ */
+public class ClusterGridLayout {
+
+    private final double aspectRatio;
+    private final int spacing;
+
+    public ClusterGridLayout(double aspectRatio, int spacing) {
+        this.aspectRatio = aspectRatio <= 0 ? 1 : aspectRatio;
+        this.spacing = spacing;
+    }
+
+    public void visit(DirectedGraph graph) {
+        List<Node> nodes = new ArrayList<>(graph.nodes.size());
+        long totalArea = 0;
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            Node node = graph.nodes.getNode(i);
+            if (node.getParent() != null) {
+                // Subgraph members are placed with their subgraph
+                continue;
+            }
+            nodes.add(node);
+            totalArea += (long) (node.width + spacing) * (node.height + spacing);
+        }
+        if (nodes.isEmpty()) {
+            return;
+        }
+        int rowWidth = (int) Math.sqrt(totalArea * aspectRatio);
+
+        int x = 0, y = 0, rowHeight = 0;
+        for (List<Node> cluster : getClusters(nodes)) {
+            for (Node node : cluster) {
+                if (x > 0 && x + node.width > rowWidth) {
+                    x = 0;
+                    y += rowHeight + spacing;
+                    rowHeight = 0;
+                }
+                node.x = x;
+                node.y = y;
+                x += node.width + spacing;
+                rowHeight = Math.max(rowHeight, node.height);
+            }
+        }
+    }
+
+    private static List<List<Node>> getClusters(List<Node> nodes) {
+        Set<Node> nodeSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        nodeSet.addAll(nodes);
+        Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<List<Node>> clusters = new ArrayList<>();
+        Deque<Node> queue = new ArrayDeque<>();
+        for (Node start : nodes) {
+            if (!visited.add(start)) {
+                continue;
+            }
+            List<Node> cluster = new ArrayList<>();
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                cluster.add(node);
+                for (int i = 0; i < node.outgoing.size(); i++) {
+                    addNeighbor(node.outgoing.getEdge(i).target, nodeSet, visited, queue);
+                }
+                for (int i = 0; i < node.incoming.size(); i++) {
+                    addNeighbor(node.incoming.getEdge(i).source, nodeSet, visited, queue);
+                }
+            }
+            clusters.add(cluster);
+        }
+        // Keep connected tables together at the top, standalone tables go last
+        clusters.sort((c1, c2) -> c2.size() - c1.size());
+        return clusters;
+    }
+
+    private static void addNeighbor(Node neighbor, Set<Node> nodeSet, Set<Node> visited, Deque<Node> queue) {
+        // Edges of subgraphs point to their anchor members
+        while (neighbor != null && !nodeSet.contains(neighbor)) {
+            neighbor = neighbor.getParent();
+        }
+        if (neighbor != null && visited.add(neighbor)) {
+            queue.add(neighbor);
+        }
+    }
+
+}
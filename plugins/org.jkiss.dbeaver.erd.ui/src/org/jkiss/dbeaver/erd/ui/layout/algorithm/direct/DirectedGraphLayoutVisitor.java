@@ -28,6 +28,7 @@ import org.eclipse.gef.EditPart;
 import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.gef.editparts.AbstractConnectionEditPart;
 import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.swt.graphics.Point;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.erd.ui.layout.GraphAnimation;
 import org.jkiss.dbeaver.erd.ui.model.ERDDecorator;
@@ -35,10 +36,7 @@ import org.jkiss.dbeaver.erd.ui.part.AttributePart;
 import org.jkiss.dbeaver.erd.ui.part.EntityPart;
 import org.jkiss.dbeaver.erd.ui.part.NodePart;
 
-import java.util.ArrayList;
-import java.util.IdentityHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Visitor with support for populating nodes and edges of DirectedGraph
@@ -49,9 +47,16 @@ import java.util.Map;
 public class DirectedGraphLayoutVisitor {
     private static final Log log = Log.getLog(DirectedGraphLayoutVisitor.class);
 
+    /**
+     * Bigger diagrams are placed with {@link ClusterGridLayout}.
+     * Directed graph layout complexity grows much faster than the number of nodes.
+     */
+    public static final int MAX_DIRECTED_LAYOUT_NODES = 300;
+
     private final ERDDecorator decorator;
     private Map<EditPart, Object> partToNodesMap;
     private DirectedGraph graph;
+    private boolean gridLayout;
 
     public DirectedGraphLayoutVisitor(ERDDecorator decorator) {
         this.decorator = decorator;
@@ -70,9 +75,17 @@ public class DirectedGraphLayoutVisitor {
         addDiagramNodes(diagram);
         if (graph.nodes.size() > 0) {
             addDiagramEdges(diagram);
+            gridLayout = graph.nodes.size() > MAX_DIRECTED_LAYOUT_NODES;
             try {
-                //new CompoundDirectedGraphLayout().visit(graph);
-                new NodeJoiningDirectedGraphLayout(diagram).visit(graph);
+                if (gridLayout) {
+                    Point diagramSize = diagram.getViewer().getControl().getSize();
+                    new ClusterGridLayout(
+                        diagramSize.y > 0 ? (double) diagramSize.x / diagramSize.y : 1,
+                        decorator.getDefaultEntityInsets().getWidth()).visit(graph);
+                } else {
+                    //new CompoundDirectedGraphLayout().visit(graph);
+                    new NodeJoiningDirectedGraphLayout(diagram).visit(graph);
+                }
             } catch (Exception e) {
                 log.error("Diagram layout error", e);
             }
@@ -246,6 +259,9 @@ public class DirectedGraphLayoutVisitor {
 */
             }
             conn.setRoutingConstraint(bends);
+        } else if (gridLayout) {
+            // Edges are not routed by grid layout, drop bends of the previous layout
+            conn.setRoutingConstraint(Collections.emptyList());
         }
 
     }
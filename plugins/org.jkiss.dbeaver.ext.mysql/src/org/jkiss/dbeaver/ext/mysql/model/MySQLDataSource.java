@@ -473,17 +473,28 @@ public class MySQLDataSource extends JDBCDataSource implements DBPObjectStatisti
             }
         }
 
+        updateConnectionPurpose(mysqlConnection, context, purpose);
+
+        return mysqlConnection;
+    }
+
+    @Override
+    protected boolean supportsSpareConnections() {
+        // Application name is a client info property
+        return true;
+    }
+
+    @Override
+    protected void updateConnectionPurpose(@NotNull Connection connection, @Nullable JDBCExecutionContext context, @NotNull String purpose) {
         if (!getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_CLIENT_NAME_DISABLE)) {
             // Provide client info
             try {
-                mysqlConnection.setClientInfo(JDBCConstants.APPLICATION_NAME_CLIENT_PROPERTY, DBUtils.getClientApplicationName(getContainer(), context, purpose));
+                connection.setClientInfo(JDBCConstants.APPLICATION_NAME_CLIENT_PROPERTY, DBUtils.getClientApplicationName(getContainer(), context, purpose));
             } catch (Throwable e) {
                 // just ignore
                 log.debug(e);
             }
         }
-
-        return mysqlConnection;
     }
 
     public List<MySQLUser> getUsers(DBRProgressMonitor monitor)
@@ -669,6 +680,8 @@ public class MySQLDataSource extends JDBCDataSource implements DBPObjectStatisti
             return new QueryTransformerLimit();
         } else if (type == DBCQueryTransformType.FETCH_ALL_TABLE) {
             return new QueryTransformerFetchAll(this);
+        } else if (type == DBCQueryTransformType.RESULT_SET_STREAM) {
+            return new QueryTransformerStream(this);
         }
         return super.createQueryTransformer(type);
     }
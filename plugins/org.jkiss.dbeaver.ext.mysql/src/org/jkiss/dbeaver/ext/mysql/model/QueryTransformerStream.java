@@ -0,0 +1,70 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.mysql.model;
+
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCQueryTransformer;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.utils.CommonUtils;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+* Query transformer for streamed (export) reads.
+* With useCursorFetch=true (and in MariaDB) fetch size enables server-side cursor,
+* otherwise MySQL driver streams rows one by one.
+*/
+class QueryTransformerStream implements DBCQueryTransformer {
+
+    private static final String PROP_USE_CURSOR_FETCH = "useCursorFetch"; //$NON-NLS-1$
+
+    private final MySQLDataSource dataSource;
+    private int fetchSize;
+
+    QueryTransformerStream(MySQLDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void setParameters(Object... parameters) {
+        this.fetchSize = CommonUtils.toInt(parameters[0]);
+    }
+
+    @Override
+    public String transformQueryString(SQLQuery query) throws DBCException {
+        return query.getText();
+    }
+
+    @Override
+    public void transformStatement(DBCStatement statement, int parameterIndex) throws DBCException {
+        try {
+            if (dataSource.isMariaDB() || CommonUtils.toBoolean(
+                dataSource.getContainer().getActualConnectionConfiguration().getProperty(PROP_USE_CURSOR_FETCH)))
+            {
+                ((Statement) statement).setFetchSize(fetchSize);
+            } else if (dataSource.supportsFetchTransform()) {
+                ((Statement) statement).setFetchSize(Integer.MIN_VALUE);
+            } else {
+                ((Statement) statement).setFetchSize(fetchSize);
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, statement.getSession().getExecutionContext());
+        }
+    }
+}
@@ -720,6 +720,8 @@ public class OracleDataSource extends JDBCDataSource implements DBPObjectStatist
     public DBCQueryTransformer createQueryTransformer(@NotNull DBCQueryTransformType type) {
         if (type == DBCQueryTransformType.RESULT_SET_LIMIT) {
             //return new QueryTransformerRowNum();
+        } else if (type == DBCQueryTransformType.RESULT_SET_STREAM) {
+            return new QueryTransformerStream();
         }
         return super.createQueryTransformer(type);
     }
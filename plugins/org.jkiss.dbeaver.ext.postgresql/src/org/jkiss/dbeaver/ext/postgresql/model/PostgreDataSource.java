@@ -586,17 +586,28 @@ public class PostgreDataSource extends JDBCDataSource implements DBSInstanceCont
             }
         }
 
+        updateConnectionPurpose(pgConnection, context, purpose);
+
+        return pgConnection;
+    }
+
+    @Override
+    protected boolean supportsSpareConnections() {
+        // Application name is a client info property
+        return getServerType().supportsClientInfo() || super.supportsSpareConnections();
+    }
+
+    @Override
+    protected void updateConnectionPurpose(@NotNull Connection connection, @Nullable JDBCExecutionContext context, @NotNull String purpose) {
         if (getServerType().supportsClientInfo() && !getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_CLIENT_NAME_DISABLE)) {
             // Provide client info. Not supported by Redshift?
             try {
-                pgConnection.setClientInfo(JDBCConstants.APPLICATION_NAME_CLIENT_PROPERTY, DBUtils.getClientApplicationName(getContainer(), context, purpose));
+                connection.setClientInfo(JDBCConstants.APPLICATION_NAME_CLIENT_PROPERTY, DBUtils.getClientApplicationName(getContainer(), context, purpose));
             } catch (Throwable e) {
                 // just ignore
                 log.debug(e);
             }
         }
-
-        return pgConnection;
     }
 
     @Override
@@ -911,6 +922,8 @@ public class PostgreDataSource extends JDBCDataSource implements DBSInstanceCont
             return new QueryTransformerLimit(false, true);
         } else if (type == DBCQueryTransformType.FETCH_ALL_TABLE) {
             return new QueryTransformerFetchAll();
+        } else if (type == DBCQueryTransformType.RESULT_SET_STREAM) {
+            return new QueryTransformerStream();
         }
         return null;
     }
@@ -0,0 +1,64 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.postgresql.model;
+
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCQueryTransformer;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.exec.DBCTransactionManager;
+import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.utils.CommonUtils;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+* Query transformer for streamed (export) reads.
+* PostgreSQL driver reads rows through a portal (server-side cursor) only if fetch size is set
+* and auto-commit is disabled. Otherwise the whole result set is loaded in memory.
+*/
+class QueryTransformerStream implements DBCQueryTransformer {
+
+    private static final Log log = Log.getLog(QueryTransformerStream.class);
+
+    private int fetchSize;
+
+    @Override
+    public void setParameters(Object... parameters) {
+        this.fetchSize = CommonUtils.toInt(parameters[0]);
+    }
+
+    @Override
+    public String transformQueryString(SQLQuery query) throws DBCException {
+        return query.getText();
+    }
+
+    @Override
+    public void transformStatement(DBCStatement statement, int parameterIndex) throws DBCException {
+        try {
+            ((Statement) statement).setFetchSize(fetchSize);
+            DBCTransactionManager txnManager = DBUtils.getTransactionManager(statement.getSession().getExecutionContext());
+            if (txnManager != null && txnManager.isAutoCommit()) {
+                log.debug("Auto-commit is enabled, result set will be read without server-side cursor");
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, statement.getSession().getExecutionContext());
+        }
+    }
+}
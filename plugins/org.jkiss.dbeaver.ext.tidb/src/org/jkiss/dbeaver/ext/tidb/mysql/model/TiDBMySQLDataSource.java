@@ -154,6 +154,12 @@ public class TiDBMySQLDataSource extends MySQLDataSource {
         return true;
     }
     
+    @Override
+    protected boolean supportsSpareConnections() {
+        // Application name is set in connection attributes, it can't be changed after connect
+        return false;
+    }
+
     @Override
     protected Map<String, String> getInternalConnectionProperties(DBRProgressMonitor monitor, DBPDriver driver, 
             JDBCExecutionContext context, String purpose, DBPConnectionConfiguration connectionInfo) throws DBCException {
@@ -20,14 +20,14 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
-import org.jkiss.dbeaver.model.DBPEvaluationContext;
-import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionRequest;
 import org.jkiss.dbeaver.model.ai.completion.DAICompletionScope;
 import org.jkiss.dbeaver.model.ai.format.IAIFormatter;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
-import org.jkiss.dbeaver.model.navigator.DBNUtils;
+import org.jkiss.dbeaver.model.navigator.*;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
@@ -35,17 +35,38 @@ import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.CommonUtils;
 
-import java.util.List;
+import java.util.*;
 
-public class MetadataProcessor {
+public class MetadataProcessor implements DBPEventListener, INavigatorListener {
     public static final MetadataProcessor INSTANCE = new MetadataProcessor();
     private static final Log log = Log.getLog(MetadataProcessor.class);
 
     private static final boolean SUPPORTS_ATTRS = true;
     private static final int MAX_RESPONSE_TOKENS = 2000;
 
+    /**
+     * Entity descriptions are rebuilt only after metadata change events or navigator refresh.
+     * Keys are entities, values are descriptions made with a particular formatter and name mode.
+     * Navigator refresh replaces entity objects, so all descriptions of the refreshed datasource are dropped.
+     */
+    private final Map<DBSEntity, EntityDescription> descriptionCache = new IdentityHashMap<>();
+    private final Set<DBPDataSourceRegistry> registries = Collections.newSetFromMap(new WeakHashMap<>());
+    private boolean navigatorListenerRegistered;
+
+    private static class EntityDescription {
+        private final Class<?> formatterClass;
+        private final boolean fullyQualified;
+        private final String text;
+
+        EntityDescription(Class<?> formatterClass, boolean fullyQualified, String text) {
+            this.formatterClass = formatterClass;
+            this.fullyQualified = fullyQualified;
+            this.text = text;
+        }
+    }
 
     public String generateObjectDescription(
         @NotNull DBRProgressMonitor monitor,
@@ -62,24 +83,14 @@ public class MetadataProcessor {
         }
         StringBuilder description = new StringBuilder();
         if (object instanceof DBSEntity) {
-            String name = useFullyQualifiedName && context != null ? DBUtils.getObjectFullName(
-                context.getDataSource(),
-                object,
-                DBPEvaluationContext.DDL
-            ) : DBUtils.getQuotedIdentifier(object);
-            description.append("# ").append(name);
-            description.append("(");
-            boolean firstAttr = addPromptAttributes(monitor, (DBSEntity) object, description, true);
-            formatter.addPromptExtra(monitor, (DBSEntity) object, description, firstAttr);
-
-            description.append(");\n");
+            description.append(getEntityDescription(monitor, (DBSEntity) object, context, formatter, useFullyQualifiedName));
         } else if (object instanceof DBSObjectContainer) {
             monitor.subTask("Load cache of " + object.getName());
             ((DBSObjectContainer) object).cacheStructure(
                 monitor,
                 DBSObjectContainer.STRUCT_ENTITIES | DBSObjectContainer.STRUCT_ATTRIBUTES);
             int totalChildren = 0;
-            for (DBSObject child : ((DBSObjectContainer) object).getChildren(monitor)) {
+            for (DBSObject child : sortByRelevance(((DBSObjectContainer) object).getChildren(monitor), request.getPromptText())) {
                 if (DBUtils.isSystemObject(child) || DBUtils.isHiddenObject(child) || child instanceof DBSTablePartition) {
                     continue;
                 }
@@ -103,6 +114,142 @@ public class MetadataProcessor {
         return description.toString();
     }
 
+    @NotNull
+    private String getEntityDescription(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @Nullable DBCExecutionContext context,
+        @NotNull IAIFormatter formatter,
+        boolean useFullyQualifiedName
+    ) throws DBException {
+        synchronized (descriptionCache) {
+            EntityDescription cached = descriptionCache.get(entity);
+            if (cached != null && cached.formatterClass == formatter.getClass() && cached.fullyQualified == useFullyQualifiedName) {
+                return cached.text;
+            }
+        }
+        String name = useFullyQualifiedName && context != null ? DBUtils.getObjectFullName(
+            context.getDataSource(),
+            entity,
+            DBPEvaluationContext.DDL
+        ) : DBUtils.getQuotedIdentifier(entity);
+        StringBuilder description = new StringBuilder();
+        description.append("# ").append(name);
+        description.append("(");
+        boolean firstAttr = addPromptAttributes(monitor, entity, description, true);
+        formatter.addPromptExtra(monitor, entity, description, firstAttr);
+        description.append(");\n");
+
+        String text = description.toString();
+        if (!monitor.isCanceled()) {
+            registerListener(entity.getDataSource());
+            synchronized (descriptionCache) {
+                descriptionCache.put(entity, new EntityDescription(formatter.getClass(), useFullyQualifiedName, text));
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Puts objects whose names are mentioned in the prompt first, so they survive prompt trimming.
+     * The original order is kept within both groups.
+     */
+    @NotNull
+    private static List<DBSObject> sortByRelevance(@Nullable Collection<? extends DBSObject> objects, @Nullable String promptText) {
+        if (objects == null) {
+            return Collections.emptyList();
+        }
+        List<DBSObject> result = new ArrayList<>(objects);
+        if (CommonUtils.isEmptyTrimmed(promptText)) {
+            return result;
+        }
+        Set<String> promptWords = new HashSet<>();
+        for (String word : promptText.toLowerCase(Locale.ENGLISH).split("[^\\p{L}\\p{N}_$]+")) {
+            if (!word.isEmpty()) {
+                promptWords.add(word);
+            }
+        }
+        List<DBSObject> mentioned = new ArrayList<>();
+        for (Iterator<DBSObject> iter = result.iterator(); iter.hasNext(); ) {
+            DBSObject object = iter.next();
+            String name = object.getName();
+            if (name != null && promptWords.contains(name.toLowerCase(Locale.ENGLISH))) {
+                mentioned.add(object);
+                iter.remove();
+            }
+        }
+        if (!mentioned.isEmpty()) {
+            result.addAll(0, mentioned);
+        }
+        return result;
+    }
+
+    private void registerListener(@Nullable DBPDataSource dataSource) {
+        if (dataSource == null) {
+            return;
+        }
+        synchronized (registries) {
+            if (!navigatorListenerRegistered) {
+                // Navigator refresh doesn't fire datasource events
+                DBNModel navigatorModel = DBWorkbench.getPlatform().getNavigatorModel();
+                if (navigatorModel != null) {
+                    navigatorModel.addListener(this);
+                }
+                navigatorListenerRegistered = true;
+            }
+        }
+        DBPDataSourceRegistry registry = dataSource.getContainer().getRegistry();
+        synchronized (registries) {
+            if (!registries.add(registry)) {
+                return;
+            }
+        }
+        registry.addDataSourceListener(this);
+    }
+
+    @Override
+    public void handleDataSourceEvent(DBPEvent event) {
+        DBSObject object = event.getObject();
+        if (object == null || event.getAction() == DBPEvent.Action.OBJECT_SELECT) {
+            return;
+        }
+        synchronized (descriptionCache) {
+            if (descriptionCache.isEmpty()) {
+                return;
+            }
+            if (object instanceof DBSEntity) {
+                descriptionCache.remove(object);
+            } else if (object.getParentObject() instanceof DBSEntity) {
+                // Attribute, constraint or other entity child
+                descriptionCache.remove(object.getParentObject());
+            } else if (object instanceof DBPDataSourceContainer) {
+                // Connect, disconnect or settings change
+                descriptionCache.keySet().removeIf(entity -> entity.getDataSource() == null ||
+                    entity.getDataSource().getContainer() == object);
+            } else {
+                // Container refresh - drop everything of this datasource
+                DBPDataSource dataSource = object.getDataSource();
+                descriptionCache.keySet().removeIf(entity -> entity.getDataSource() == dataSource);
+            }
+        }
+    }
+
+    @Override
+    public void nodeChanged(DBNEvent event) {
+        // Node loading happens on each navigator expand, only refresh and removal change metadata
+        boolean refresh = event.getAction() == DBNEvent.Action.UPDATE &&
+            (event.getNodeChange() == DBNEvent.NodeChange.REFRESH || event.getNodeChange() == DBNEvent.NodeChange.STRUCT_REFRESH);
+        if (!(refresh || event.getAction() == DBNEvent.Action.REMOVE) || !(event.getNode() instanceof DBNDatabaseNode)) {
+            return;
+        }
+        DBPDataSource dataSource = ((DBNDatabaseNode) event.getNode()).getDataSource();
+        if (dataSource != null) {
+            synchronized (descriptionCache) {
+                descriptionCache.keySet().removeIf(entity -> entity.getDataSource() == dataSource);
+            }
+        }
+    }
+
     /**
      * Add completion metadata to request
      */
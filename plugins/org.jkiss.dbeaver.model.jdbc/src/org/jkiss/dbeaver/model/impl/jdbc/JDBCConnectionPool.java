@@ -0,0 +1,232 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.sql.Connection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Spare physical connections of remote instance.
+ * Connections are opened in background and handed out to new isolated contexts,
+ * so new editors and jobs do not wait for connection handshake.
+ * When the number of idle connections falls below min idle the pool is refilled up to max idle.
+ * Idle connection is validated with the dialect test query before use.
+ * Spare connections are opened with generic purpose, so the pool is used only by data sources which
+ * can update purpose-dependent connection settings of leased connection.
+ */
+class JDBCConnectionPool {
+
+    private static final Log log = Log.getLog(JDBCConnectionPool.class);
+
+    static final String SPARE_CONNECTION_PURPOSE = "Spare"; //$NON-NLS-1$
+
+    private static class IdleConnection {
+        private final Connection connection;
+        private final long openTime;
+
+        IdleConnection(Connection connection) {
+            this.connection = connection;
+            this.openTime = System.currentTimeMillis();
+        }
+    }
+
+    @NotNull
+    private final JDBCRemoteInstance instance;
+    private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+    private final RefillJob refillJob = new RefillJob();
+    private volatile boolean closed;
+
+    // Lease statistics
+    private long leaseCount;
+    private long hitCount;
+    private long totalLeaseTime;
+
+    JDBCConnectionPool(@NotNull JDBCRemoteInstance instance) {
+        this.instance = instance;
+    }
+
+    static boolean isPoolEnabled(@NotNull JDBCDataSource dataSource) {
+        return dataSource.getContainer().getPreferenceStore().getInt(ModelPreferences.CONNECTION_POOL_MIN_IDLE) > 0 &&
+            dataSource.supportsSpareConnections() &&
+            !dataSource.getContainer().getDriver().isEmbedded() &&
+            !dataSource.getContainer().isForceUseSingleConnection();
+    }
+
+    /**
+     * Returns validated idle connection or opens new one.
+     */
+    @NotNull
+    Connection leaseConnection(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull JDBCExecutionContext context,
+        @NotNull String purpose
+    ) throws DBCException {
+        long startTime = System.currentTimeMillis();
+        Connection connection = pollValidConnection();
+        boolean hit = connection != null;
+        if (connection == null) {
+            connection = instance.getDataSource().openConnection(monitor, context, purpose);
+        } else {
+            instance.getDataSource().updateConnectionPurpose(connection, context, purpose);
+        }
+        scheduleRefill();
+
+        long leaseTime = System.currentTimeMillis() - startTime;
+        synchronized (this) {
+            leaseCount++;
+            if (hit) {
+                hitCount++;
+            }
+            totalLeaseTime += leaseTime;
+            log.debug("Connection for " + purpose + " leased in " + leaseTime + "ms (" + (hit ? "spare" : "new") + ")." +
+                " Pool hits: " + hitCount + "/" + leaseCount + ", average lease time: " + (totalLeaseTime / leaseCount) + "ms");
+        }
+        return connection;
+    }
+
+    void scheduleRefill() {
+        if (closed) {
+            return;
+        }
+        int minIdle = getPreferenceStore().getInt(ModelPreferences.CONNECTION_POOL_MIN_IDLE);
+        synchronized (idleConnections) {
+            if (idleConnections.size() >= minIdle) {
+                return;
+            }
+        }
+        refillJob.schedule();
+    }
+
+    void close() {
+        closed = true;
+        refillJob.cancel();
+        List<IdleConnection> toClose;
+        synchronized (idleConnections) {
+            toClose = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+        }
+        for (IdleConnection idle : toClose) {
+            closeConnection(idle.connection);
+        }
+    }
+
+    @Nullable
+    private Connection pollValidConnection() {
+        for (;;) {
+            IdleConnection idle;
+            synchronized (idleConnections) {
+                idle = idleConnections.pollFirst();
+            }
+            if (idle == null) {
+                return null;
+            }
+            if (isExpired(idle)) {
+                closeConnection(idle.connection);
+            } else if (JDBCUtils.isConnectionAlive(instance.getDataSource(), idle.connection)) {
+                return idle.connection;
+            } else {
+                log.debug("Spare connection is broken, discard it");
+                closeConnection(idle.connection);
+            }
+        }
+    }
+
+    private boolean isExpired(@NotNull IdleConnection idle) {
+        long maxIdleTime = getPreferenceStore().getLong(ModelPreferences.CONNECTION_POOL_MAX_IDLE_TIME);
+        return maxIdleTime > 0 && System.currentTimeMillis() - idle.openTime > maxIdleTime;
+    }
+
+    private void closeConnection(@NotNull Connection connection) {
+        instance.getDataSource().closeConnection(connection, SPARE_CONNECTION_PURPOSE, false);
+    }
+
+    @NotNull
+    private DBPPreferenceStore getPreferenceStore() {
+        return instance.getDataSource().getContainer().getPreferenceStore();
+    }
+
+    private class RefillJob extends AbstractJob {
+
+        RefillJob() {
+            super("Open spare connections (" + instance.getDataSource().getContainer().getName() + ")");
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBPPreferenceStore store = getPreferenceStore();
+            int maxIdle = Math.max(
+                store.getInt(ModelPreferences.CONNECTION_POOL_MIN_IDLE),
+                store.getInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE));
+            // Drop expired connections so they are replaced with fresh ones
+            List<IdleConnection> expired = new ArrayList<>();
+            synchronized (idleConnections) {
+                idleConnections.removeIf(idle -> isExpired(idle) && expired.add(idle));
+            }
+            for (IdleConnection idle : expired) {
+                closeConnection(idle.connection);
+            }
+            // Connection needs a context of its instance (e.g. to resolve the database name)
+            JDBCExecutionContext spareContext = null;
+            while (!closed && !monitor.isCanceled()) {
+                synchronized (idleConnections) {
+                    if (idleConnections.size() >= maxIdle) {
+                        break;
+                    }
+                }
+                if (spareContext == null) {
+                    spareContext = instance.getDataSource().createExecutionContext(instance, SPARE_CONNECTION_PURPOSE);
+                }
+                Connection connection;
+                try {
+                    connection = instance.getDataSource().openConnection(monitor, spareContext, SPARE_CONNECTION_PURPOSE);
+                } catch (DBCException e) {
+                    // Do not retry, pool will be refilled on the next lease
+                    log.debug("Error opening spare connection: " + e.getMessage());
+                    break;
+                }
+                boolean added = false;
+                synchronized (idleConnections) {
+                    if (!closed) {
+                        idleConnections.addLast(new IdleConnection(connection));
+                        added = true;
+                    }
+                }
+                if (!added) {
+                    closeConnection(connection);
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
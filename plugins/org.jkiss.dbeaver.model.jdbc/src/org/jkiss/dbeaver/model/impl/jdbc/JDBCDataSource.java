@@ -749,6 +749,21 @@ public abstract class JDBCDataSource extends AbstractDataSource
         return null;
     }
 
+    /**
+     * Whether connections opened in advance (spare connections) can be used by contexts with another purpose.
+     * Connection identity (e.g. client application name) depends on the purpose, so it is possible only if
+     * client name is not reported or it can be changed after connect (see {@link #updateConnectionPurpose}).
+     */
+    protected boolean supportsSpareConnections() {
+        return getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_CLIENT_NAME_DISABLE);
+    }
+
+    /**
+     * Applies purpose-dependent settings (e.g. client application name) to the spare connection leased by the context.
+     */
+    protected void updateConnectionPurpose(@NotNull Connection connection, @Nullable JDBCExecutionContext context, @NotNull String purpose) {
+    }
+
     protected DBPDataSourceInfo createDataSourceInfo(DBRProgressMonitor monitor, @NotNull JDBCDatabaseMetaData metaData)
     {
         return new JDBCDataSourceInfo(metaData);
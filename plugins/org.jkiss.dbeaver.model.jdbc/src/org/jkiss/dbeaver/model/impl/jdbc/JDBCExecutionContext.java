@@ -100,7 +100,7 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
 
         Object exclusiveLock = currentInstance.getExclusiveLock().acquireExclusiveLock();
         try {
-            this.connection = dataSource.openConnection(monitor, this, purpose);
+            this.connection = currentInstance.openContextConnection(monitor, this, purpose);
             if (this.connection == null) {
                 throw new DBCException("Null connection returned");
             }
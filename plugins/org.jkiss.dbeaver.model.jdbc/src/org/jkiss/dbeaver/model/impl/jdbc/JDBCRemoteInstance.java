@@ -33,6 +33,7 @@ import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 
 import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,6 +54,8 @@ public class JDBCRemoteInstance implements DBSInstance {
     @NotNull
     private final List<JDBCExecutionContext> allContexts = new ArrayList<>();
     private final DBPExclusiveResource exclusiveLock = new SimpleExclusiveLock();
+    @Nullable
+    private volatile JDBCConnectionPool connectionPool;
 
     protected JDBCRemoteInstance(@NotNull DBRProgressMonitor monitor, @NotNull JDBCDataSource dataSource, boolean initContext)
         throws DBException {
@@ -101,6 +104,8 @@ public class JDBCRemoteInstance implements DBSInstance {
             this.executionContext = dataSource.createExecutionContext(this, getMainContextName());
             this.executionContext.connect(monitor, null, null, null, true);
         }
+        // Pre-warm spare connections for editors and jobs
+        initializeConnectionPool();
     }
 
     public JDBCExecutionContext initializeMetaContext(@NotNull DBRProgressMonitor monitor)
@@ -158,6 +163,7 @@ public class JDBCRemoteInstance implements DBSInstance {
         if (sharedInstance != null) {
             return sharedInstance.openIsolatedContext(monitor, purpose, initFrom);
         }
+        initializeConnectionPool();
         JDBCExecutionContext context = dataSource.createExecutionContext(this, purpose);
         DBExecUtils.tryExecuteRecover(monitor, getDataSource(), monitor1 -> {
             try {
@@ -225,6 +231,11 @@ public class JDBCRemoteInstance implements DBSInstance {
      * @param keepMeta do not close meta context
      */
     public void shutdown(DBRProgressMonitor monitor, boolean keepMeta) {
+        JDBCConnectionPool pool = this.connectionPool;
+        if (pool != null) {
+            this.connectionPool = null;
+            pool.close();
+        }
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
         List<JDBCExecutionContext> ctxCopy;
@@ -241,6 +252,34 @@ public class JDBCRemoteInstance implements DBSInstance {
         }
     }
 
+    private void initializeConnectionPool() {
+        if (connectionPool == null && JDBCConnectionPool.isPoolEnabled(dataSource)) {
+            synchronized (allContexts) {
+                if (connectionPool == null) {
+                    connectionPool = new JDBCConnectionPool(this);
+                }
+            }
+        }
+        JDBCConnectionPool pool = this.connectionPool;
+        if (pool != null) {
+            pool.scheduleRefill();
+        }
+    }
+
+    /**
+     * Opens physical connection for the context.
+     * Isolated contexts take spare connections from the pool (if it is enabled).
+     */
+    @NotNull
+    Connection openContextConnection(@NotNull DBRProgressMonitor monitor, @NotNull JDBCExecutionContext context, @NotNull String purpose)
+        throws DBCException {
+        JDBCConnectionPool pool = this.connectionPool;
+        if (pool != null && context != executionContext && context != metaContext) {
+            return pool.leaseConnection(monitor, context, purpose);
+        }
+        return dataSource.openConnection(monitor, context, purpose);
+    }
+
     void addContext(JDBCExecutionContext context) {
         synchronized (allContexts) {
             allContexts.add(context);
@@ -181,8 +181,8 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             if (monitor.isCanceled()) {
                 return statistics;
             }
-            if (dbStat instanceof JDBCStatement && (fetchSize > 0 || maxRows > 0)) {
-                DBExecUtils.setStatementFetchSize(dbStat, firstRow, maxRows, fetchSize);
+            if (dbStat instanceof JDBCStatement && (fetchSize > 0 || maxRows > 0 || CommonUtils.isBitSet(flags, DBSDataContainer.FLAG_STREAM_RESULTS))) {
+                DBExecUtils.setStatementFetchSize(dbStat, firstRow, maxRows, fetchSize, flags);
             }
 
             long startTime = System.currentTimeMillis();
@@ -372,8 +372,10 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         readRequiredMeta(session.getProgressMonitor());
 
         DBSAttributeBase[] attributes = ArrayUtils.concatArrays(updateAttributes, keyAttributes);
+        // Statement text depends only on key nulls (which are checked by batch) unless values are bound with custom expressions
+        boolean reuseStatement = !hasValueBinders(session, updateAttributes);
 
-        return new ExecuteBatchImpl(attributes, keysReceiver, false) {
+        return new ExecuteBatchImpl(attributes, keysReceiver, reuseStatement) {
             @NotNull
             @Override
             protected DBCStatement prepareStatement(@NotNull DBCSession session, DBDValueHandler[] handlers, Object[] attributeValues, Map<String, Object> options) throws DBCException {
@@ -453,7 +455,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     {
         readRequiredMeta(session.getProgressMonitor());
 
-        return new ExecuteBatchImpl(keyAttributes, null, false) {
+        return new ExecuteBatchImpl(keyAttributes, null, true) {
             @NotNull
             @Override
             protected DBCStatement prepareStatement(@NotNull DBCSession session, DBDValueHandler[] handlers, Object[] attributeValues, Map<String, Object> options) throws DBCException {
@@ -901,6 +903,17 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         return dialect instanceof JDBCSQLDialect && ((JDBCSQLDialect) dialect).supportsUpsertStatement();
     }
 
+    private static boolean hasValueBinders(@NotNull DBCSession session, @NotNull DBSAttributeBase[] attributes) {
+        for (DBSAttributeBase attribute : attributes) {
+            DBDValueHandler valueHandler = attribute instanceof DBDAttributeBinding ?
+                ((DBDAttributeBinding) attribute).getValueHandler() : DBUtils.findValueHandler(session, attribute);
+            if (valueHandler instanceof DBDValueBinder) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void appendAttributeCriteria(@Nullable String tableAlias, SQLDialect dialect, StringBuilder query, DBSAttributeBase attribute, Object value) {
         DBDPseudoAttribute pseudoAttribute = null;
         if (DBUtils.isPseudoAttribute(attribute)) {
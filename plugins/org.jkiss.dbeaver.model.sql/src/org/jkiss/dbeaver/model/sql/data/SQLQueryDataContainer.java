@@ -116,7 +116,7 @@ public class SQLQueryDataContainer implements DBSDataContainer, SQLQueryContaine
             firstRow,
             maxRows))
         {
-            DBExecUtils.setStatementFetchSize(dbcStatement, firstRow, maxRows, fetchSize);
+            DBExecUtils.setStatementFetchSize(dbcStatement, firstRow, maxRows, fetchSize, flags);
 
             // Execute statement
 
@@ -18,30 +18,77 @@ package org.jkiss.dbeaver.model.data.aggregate;
 
 import org.jkiss.dbeaver.Log;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * Median
+ * Median.
+ * Numeric values are kept in an array and median is found with quick select (linear time).
+ * Median is one of the original values, or exact average of two middle values.
+ * Non-numeric values fall back to sorting of the whole collection.
  */
 public class FunctionMedian implements IAggregateFunction {
 
     private static final Log log = Log.getLog(FunctionMedian.class);
 
-    private final List<Comparable> cache = new ArrayList<>();
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private Number[] numbers = new Number[64];
+    private int numberCount = 0;
+    private List<Comparable> cache;
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
         value = FunctionNumeric.getComparable(value, aggregateAsStrings);
-        if (value != null) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Number) {
+            if (numberCount == numbers.length) {
+                numbers = Arrays.copyOf(numbers, numbers.length * 2);
+            }
+            numbers[numberCount++] = (Number) value;
+        } else {
+            if (cache == null) {
+                cache = new ArrayList<>();
+            }
             cache.add((Comparable<?>) value);
-            return true;
         }
-        return false;
+        return true;
     }
 
     @Override
     public Object getResult(int valueCount) {
+        if (cache != null) {
+            return getMixedResult();
+        }
+        if (numberCount == 0) {
+            return null;
+        }
+        int middle = numberCount / 2;
+        Number median = select(numbers, numberCount, middle);
+        if (numberCount % 2 == 1) {
+            return median;
+        } else {
+            // Lower middle value is the max of the left part after selection
+            Number lower = numbers[0];
+            for (int i = 1; i < middle; i++) {
+                if (compareNumbers(numbers[i], lower) > 0) {
+                    lower = numbers[i];
+                }
+            }
+            return getAverage(lower, median);
+        }
+    }
+
+    private Object getMixedResult() {
+        for (int i = 0; i < numberCount; i++) {
+            cache.add((Comparable<?>) numbers[i]);
+        }
+        numberCount = 0;
         try {
             cache.sort(AggregateUtils::compareValues);
         } catch (Exception e) {
@@ -57,11 +104,89 @@ public class FunctionMedian implements IAggregateFunction {
             Comparable<?> val1 = cache.get(middle - 1);
             Comparable<?> val2 = cache.get(middle);
             if (val1 instanceof Number && val2 instanceof Number) {
-                return (((Number) val1).doubleValue() + ((Number) val2).doubleValue()) / 2.0;
+                return getAverage((Number) val1, (Number) val2);
             }
             // Not true median - but we can't evaluate it for non-numeric values
             // So just get first one
             return val1;
         }
     }
+
+    private static Object getAverage(Number val1, Number val2) {
+        if (isFloating(val1) || isFloating(val2)) {
+            double avg = (val1.doubleValue() + val2.doubleValue()) / 2.0;
+            if (Double.isFinite(avg) || !Double.isFinite(val1.doubleValue()) || !Double.isFinite(val2.doubleValue())) {
+                return avg;
+            }
+        }
+        // Exact average, long and decimal values must not lose precision
+        return toBigDecimal(val1).add(toBigDecimal(val2)).divide(TWO);
+    }
+
+    private static boolean isFloating(Number value) {
+        return value instanceof Double || value instanceof Float;
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (isIntegral(value)) {
+            return BigDecimal.valueOf(value.longValue());
+        } else {
+            return new BigDecimal(value.toString());
+        }
+    }
+
+    private static int compareNumbers(Number val1, Number val2) {
+        if (isIntegral(val1) && isIntegral(val2)) {
+            return Long.compare(val1.longValue(), val2.longValue());
+        }
+        if (isFloating(val1) || isFloating(val2)) {
+            int result = Double.compare(val1.doubleValue(), val2.doubleValue());
+            if (result != 0 || !Double.isFinite(val1.doubleValue())) {
+                return result;
+            }
+        }
+        return toBigDecimal(val1).compareTo(toBigDecimal(val2));
+    }
+
+    /**
+     * Finds k-th smallest value. Partially reorders array: all values before k are less or equal to the result.
+     */
+    private static Number select(Number[] values, int count, int k) {
+        int left = 0, right = count - 1;
+        while (left < right) {
+            Number pivot = values[(left + right) >>> 1];
+            int i = left, j = right;
+            while (i <= j) {
+                while (compareNumbers(values[i], pivot) < 0) {
+                    i++;
+                }
+                while (compareNumbers(values[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    Number tmp = values[i];
+                    values[i] = values[j];
+                    values[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
 }
@@ -16,15 +16,29 @@
  */
 package org.jkiss.dbeaver.model.data.aggregate;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * Mode
+ * Mode.
+ * Numerically equal values (e.g. Integer 1, Long 1 and BigDecimal 1.0) are counted together,
+ * the first occurred value is returned.
  */
 public class FunctionMode implements IAggregateFunction {
 
-    private final List<Object> cache = new ArrayList<>();
+    private static class ValueCount {
+        final Object value;
+        int count;
+
+        ValueCount(Object value) {
+            this.value = value;
+        }
+    }
+
+    // Value counts in order of first occurrence
+    private final Map<Object, ValueCount> counts = new LinkedHashMap<>();
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
@@ -33,7 +47,8 @@ public class FunctionMode implements IAggregateFunction {
             value = num;
         }
         if (value != null) {
-            cache.add(value);
+            Object finalValue = value;
+            counts.computeIfAbsent(getValueKey(value), v -> new ValueCount(finalValue)).count++;
             return true;
         }
         return false;
@@ -44,16 +59,10 @@ public class FunctionMode implements IAggregateFunction {
         Object maxValue = null;
         int maxCount = 0;
 
-        for (int i = 0; i < cache.size(); ++i) {
-            int count = 0;
-            for (int j = 0; j < cache.size(); ++j) {
-                if (cache.get(j).equals(cache.get(i))) {
-                    count++;
-                }
-            }
-            if (count > maxCount) {
-                maxCount = count;
-                maxValue = cache.get(i);
+        for (ValueCount entry : counts.values()) {
+            if (entry.count > maxCount) {
+                maxCount = entry.count;
+                maxValue = entry.value;
             }
         }
 //        if (maxCount <= 1) {
@@ -61,4 +70,21 @@ public class FunctionMode implements IAggregateFunction {
 //        }
         return maxValue;
     }
+
+    private static Object getValueKey(Object value) {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            decimal = BigDecimal.valueOf(((Number) value).longValue());
+        } else if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+            decimal = new BigDecimal(value.toString());
+        } else {
+            return value;
+        }
+        // Scale doesn't matter: 1 and 1.00 are the same value
+        return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+    }
 }
@@ -23,6 +23,7 @@ package org.jkiss.dbeaver.model.exec;
 public enum DBCQueryTransformType {
 
     FETCH_ALL_TABLE,
+    RESULT_SET_STREAM,
     RESULT_SET_LIMIT,
     ORDER_BY,
     FILTER
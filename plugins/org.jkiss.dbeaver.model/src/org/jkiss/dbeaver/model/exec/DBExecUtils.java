@@ -260,7 +260,32 @@ public class DBExecUtils {
     }
 
     public static void setStatementFetchSize(DBCStatement dbStat, long firstRow, long maxRows, int fetchSize) {
-        boolean useFetchSize = fetchSize > 0 || dbStat.getSession().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
+        setStatementFetchSize(dbStat, firstRow, maxRows, fetchSize, DBSDataContainer.FLAG_NONE);
+    }
+
+    /**
+     * Sets statement fetch size.
+     * With {@link DBSDataContainer#FLAG_STREAM_RESULTS} flag unlimited reads are switched to the streaming (server-side cursor)
+     * mode of the data source, so client memory doesn't depend on the result set size.
+     */
+    public static void setStatementFetchSize(DBCStatement dbStat, long firstRow, long maxRows, int fetchSize, long flags) {
+        DBPDataSource dataSource = dbStat.getSession().getDataSource();
+        boolean streamResults = CommonUtils.isBitSet(flags, DBSDataContainer.FLAG_STREAM_RESULTS) && firstRow <= 0 && maxRows <= 0;
+        if (streamResults) {
+            DBCQueryTransformProvider transformProvider = DBUtils.getAdapter(DBCQueryTransformProvider.class, dataSource);
+            DBCQueryTransformer streamTransformer = transformProvider == null ?
+                null : transformProvider.createQueryTransformer(DBCQueryTransformType.RESULT_SET_STREAM);
+            if (streamTransformer != null) {
+                streamTransformer.setParameters(fetchSize > 0 ? fetchSize : DEFAULT_READ_FETCH_SIZE);
+                try {
+                    streamTransformer.transformStatement(dbStat, 0);
+                    return;
+                } catch (Exception e) {
+                    log.debug("Can't enable result set streaming: " + e.getMessage());
+                }
+            }
+        }
+        boolean useFetchSize = streamResults || fetchSize > 0 || dataSource.getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
         if (useFetchSize) {
             if (fetchSize <= 0) {
                 fetchSize = DEFAULT_READ_FETCH_SIZE;
@@ -144,13 +144,13 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     for (int i = 0; i < rowValues.length; i++) {
                         nulls[i] = DBUtils.isNullValue(rowValues[i]);
                     }
-                    if (!Arrays.equals(prevNulls, nulls) && statementsInBatch > 0) {
+                    if (!Arrays.equals(prevNulls, nulls) && statement != null) {
                         reuse = false;
                     }
                     System.arraycopy(nulls, 0, prevNulls, 0, nulls.length);
-                    if (!reuse && statementsInBatch > 0) {
-                        // Flush batch
-                        if (actions == null) {
+                    if (!reuse && statement != null) {
+                        // Flush batch. Statement may be prepared without batch (single row execution or script generation)
+                        if (actions == null && statementsInBatch > 0) {
                             flushBatch(statistics, statement);
                         }
                         statement.close();
@@ -21,6 +21,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.utils.CommonUtils;
+import org.jkiss.utils.time.CompiledDateFormat;
 import org.jkiss.utils.time.ExtendedDateFormat;
 
 import java.text.DateFormat;
@@ -36,6 +37,7 @@ import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 public class DateTimeDataFormatter implements DBDDataFormatter {
 
@@ -45,6 +47,8 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
     private String pattern;
     private ZoneId zone;
     private DateFormat dateFormat;
+    @Nullable
+    private CompiledDateFormat compiledDateFormat;
     private StringBuffer buffer;
     private FieldPosition position;
     private DateTimeFormatter dateTimeFormatter;
@@ -61,6 +65,8 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
             locale);
         // We shouldn't use lanient formatter (#7244)
         dateFormat.setLenient(false);
+        // Simple numeric patterns are formatted without SimpleDateFormat and without locking
+        compiledDateFormat = CompiledDateFormat.compile(sdfPattern, locale, TimeZone.getDefault());
         buffer = new StringBuffer();
         position = new FieldPosition(0);
         // DateTimeFormatter pattern for nanoseconds is "n" but old "f" (ExtendedDateFormat)
@@ -104,6 +110,12 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
             }
             return dateTimeFormatter.format((TemporalAccessor) value);
         }
+        if (value instanceof Date && compiledDateFormat != null) {
+            String result = compiledDateFormat.format((Date) value);
+            if (result != null) {
+                return result;
+            }
+        }
         synchronized (dateFormat) {
             buffer.setLength(0);
             return value == null ? null : dateFormat.format(value, buffer, position).toString();
@@ -0,0 +1,189 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql;
+
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.utils.ArrayUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Splits script into groups of statements which can be executed independently.
+ * Statements which touch the same objects are placed in the same group (in script order).
+ * Objects are detected by the SQL parser, statements which cannot be parsed (e.g. maintenance commands)
+ * are matched by all identifiers they mention.
+ * Data modifications on different tables may still depend on each other through foreign keys or triggers,
+ * so all data modifying statements are placed in a single group.
+ */
+public class SQLQueryDependencyAnalyzer {
+
+    private static final Log log = Log.getLog(SQLQueryDependencyAnalyzer.class);
+
+    // Statements which change session state or transaction. They affect all following statements.
+    private static final String[] SESSION_KEYWORDS = {
+        "USE", "SET", "RESET", "BEGIN", "START", "COMMIT", "ROLLBACK", "SAVEPOINT", "RELEASE",
+        "LOCK", "UNLOCK", "DECLARE", "CALL", "EXEC", "EXECUTE", "DO", "PREPARE", "DEALLOCATE"
+    };
+    // Statements which change table data. Cascades and triggers make them dependent on unknown tables.
+    private static final String[] DATA_MODIFY_KEYWORDS = {
+        "INSERT", "UPDATE", "DELETE", "MERGE", "UPSERT", "REPLACE", "TRUNCATE", "COPY", "LOAD"
+    };
+    // Object name which can't appear in the statement text. Links all data modifying statements together.
+    private static final String DATA_MODIFY_MARKER = "#data-modification";
+    private static final Pattern CASCADE_PATTERN = Pattern.compile("\\bCASCADE\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ALTER_SESSION_PATTERN = Pattern.compile("ALTER\\s+SESSION\\b.*", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern IDENTIFIER_SPLIT_PATTERN = Pattern.compile("[^\\p{L}\\p{N}_$#]+");
+
+    private final SQLDialect dialect;
+
+    public SQLQueryDependencyAnalyzer(@NotNull SQLDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    /**
+     * Returns groups of dependent statements or null if script cannot be executed in parallel.
+     */
+    @Nullable
+    public List<List<SQLQuery>> getIndependentGroups(@NotNull List<SQLScriptElement> elements) {
+        List<Set<String>> queryObjects = new ArrayList<>(elements.size());
+        for (SQLScriptElement element : elements) {
+            if (!(element instanceof SQLQuery)) {
+                // Control commands change script state
+                return null;
+            }
+            SQLQuery query = (SQLQuery) element;
+            if (!CommonUtils.isEmpty(query.getParameters()) || query.getType() == SQLQueryType.USE) {
+                return null;
+            }
+            String text = SQLUtils.stripComments(dialect, query.getText()).trim();
+            String firstKeyword = SQLUtils.getFirstKeyword(dialect, text).toUpperCase(Locale.ENGLISH);
+            if (ArrayUtils.contains(SESSION_KEYWORDS, firstKeyword) || ALTER_SESSION_PATTERN.matcher(text).matches()) {
+                return null;
+            }
+            Set<String> objects = getQueryObjects(query, text);
+            if (objects.isEmpty()) {
+                // We don't know what this statement does
+                return null;
+            }
+            if (isDataModifying(query, firstKeyword, text)) {
+                objects.add(DATA_MODIFY_MARKER);
+            }
+            queryObjects.add(objects);
+        }
+
+        // Merge statements with common objects (union-find over statement indexes)
+        int[] groupOf = new int[elements.size()];
+        Map<String, Integer> objectOwner = new HashMap<>();
+        for (int i = 0; i < groupOf.length; i++) {
+            groupOf[i] = i;
+            for (String object : queryObjects.get(i)) {
+                Integer owner = objectOwner.putIfAbsent(object, i);
+                if (owner != null) {
+                    int root1 = findRoot(groupOf, owner), root2 = findRoot(groupOf, i);
+                    // Keep the earliest statement as group root
+                    groupOf[Math.max(root1, root2)] = Math.min(root1, root2);
+                }
+            }
+        }
+        Map<Integer, List<SQLQuery>> groups = new TreeMap<>();
+        for (int i = 0; i < groupOf.length; i++) {
+            groups.computeIfAbsent(findRoot(groupOf, i), k -> new ArrayList<>()).add((SQLQuery) elements.get(i));
+        }
+        if (groups.size() < 2) {
+            return null;
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static boolean isDataModifying(@NotNull SQLQuery query, @NotNull String firstKeyword, @NotNull String text) {
+        switch (query.getType()) {
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+            case MERGE:
+                return true;
+            case SELECT:
+                // SELECT INTO or SELECT FOR UPDATE
+                return query.isModifiyng();
+            default:
+                // DDL may drop or change dependent objects with CASCADE
+                return ArrayUtils.contains(DATA_MODIFY_KEYWORDS, firstKeyword) || CASCADE_PATTERN.matcher(text).find();
+        }
+    }
+
+    @NotNull
+    private Set<String> getQueryObjects(@NotNull SQLQuery query, @NotNull String text) {
+        Set<String> objects = new HashSet<>();
+        Statement statement = query.getStatement();
+        if (statement != null && query.getType() != SQLQueryType.DDL && query.getType() != SQLQueryType.UNKNOWN) {
+            // Queries and DML refer tables only. DDL also refers indexes, constraints, etc so all identifiers are used.
+            try {
+                for (String tableName : new TablesNamesFinder().getTableList(statement)) {
+                    addObjectName(objects, tableName);
+                }
+                return objects;
+            } catch (Exception e) {
+                // Statement is not supported by finder. Use identifiers.
+                log.debug("Can't detect tables of " + statement.getClass().getSimpleName() + ": " + e.getMessage());
+                objects.clear();
+            }
+        }
+        for (String word : IDENTIFIER_SPLIT_PATTERN.split(text)) {
+            if (!word.isEmpty() && !Character.isDigit(word.charAt(0)) && dialect.getKeywordType(word) == null) {
+                addObjectName(objects, word);
+            }
+        }
+        return objects;
+    }
+
+    private void addObjectName(@NotNull Set<String> objects, @NotNull String name) {
+        // Each part of qualified name is an object. Statements on a schema (catalog) are ordered
+        // with statements on its tables, same table name in different schemas just makes statements dependent.
+        String[] parts = SQLUtils.splitFullIdentifier(name, dialect.getStructSeparator(), dialect.getIdentifierQuoteStrings());
+        StringBuilder fullName = new StringBuilder();
+        for (String part : parts) {
+            part = part.trim();
+            if (part.isEmpty()) {
+                continue;
+            }
+            part = part.toLowerCase(Locale.ENGLISH);
+            objects.add(part);
+            if (fullName.length() > 0) {
+                fullName.append(dialect.getStructSeparator());
+            }
+            fullName.append(part);
+        }
+        if (parts.length > 1 && fullName.length() > 0) {
+            objects.add(fullName.toString());
+        }
+    }
+
+    private static int findRoot(int[] groupOf, int index) {
+        while (groupOf[index] != index) {
+            groupOf[index] = groupOf[groupOf[index]];
+            index = groupOf[index];
+        }
+        return index;
+    }
+
+}
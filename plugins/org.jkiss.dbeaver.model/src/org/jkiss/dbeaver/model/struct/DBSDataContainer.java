@@ -47,6 +47,8 @@ public interface DBSDataContainer extends DBSObject {
     long FLAG_USE_SELECTED_ROWS     = 1 << 2;
     long FLAG_USE_SELECTED_COLUMNS  = 1 << 3;
     long FLAG_FETCH_SEGMENT         = 1 << 4;
+    // Rows are consumed once and not kept in memory (e.g. export). Server-side cursor may be used.
+    long FLAG_STREAM_RESULTS        = 1 << 5;
     long FLAG_REFRESH               = 1 << 8;
 
     @Nullable
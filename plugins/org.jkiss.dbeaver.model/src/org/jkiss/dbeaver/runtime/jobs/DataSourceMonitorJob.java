@@ -18,8 +18,9 @@ package org.jkiss.dbeaver.runtime.jobs;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.IJobChangeEvent;
-import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBPDataSource;
@@ -38,14 +39,20 @@ import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * DataSourceMonitorJob.
  *
  * Performs connection keep-alive ping.
  * Ends idle transactions.
+ *
+ * Pings are queued and executed by a small set of worker jobs,
+ * with a limited number of simultaneous pings per host.
+ * Workers blocked by slow pings (e.g. dead hosts) do not count, extra workers are started instead.
  */
 public class DataSourceMonitorJob extends AbstractJob {
     private static final int MONITOR_INTERVAL = 3000; // once per 3 seconds
@@ -56,9 +63,35 @@ public class DataSourceMonitorJob extends AbstractJob {
     private static final int MAX_FAILED_ATTEMPTS_BEFORE_DISCONNECT = 5;
     private static final int MAX_FAILED_ATTEMPTS_BEFORE_IGNORE = 10;
 
+    private static final int MAX_PING_WORKERS = 4;
+    private static final int MAX_PINGS_PER_HOST = 2;
+    static final long PING_STALL_TIMEOUT = 10000; // 10 seconds
+    // Ping is sent up to 10% earlier than the keep-alive interval.
+    // This spreads pings of connections opened at the same time.
+    private static final double KEEP_ALIVE_JITTER = 0.1;
+
+    static class PingTask {
+        final DBPDataSource dataSource;
+        final String dsId;
+        final String host;
+        final int keepAliveInterval;
+        final boolean disconnectOnError;
+
+        PingTask(DBPDataSource dataSource, String dsId, String host, int keepAliveInterval, boolean disconnectOnError) {
+            this.dataSource = dataSource;
+            this.dsId = dsId;
+            this.host = host;
+            this.keepAliveInterval = keepAliveInterval;
+            this.disconnectOnError = disconnectOnError;
+        }
+    }
+
     private final DBPPlatform platform;
-    private final Map<String, Long> checkCache = new HashMap<>();
+    private final Map<String, Long> nextCheckTime = new HashMap<>();
     private final Set<String> pingCache = new HashSet<>();
+    private final Deque<PingTask> pingQueue = new ArrayDeque<>();
+    private final Map<String, Integer> activeHostPings = new HashMap<>();
+    private final List<KeepAlivePingJob> pingWorkers = new ArrayList<>();
     private long lastPingTime = -1;
 
     public DataSourceMonitorJob(DBPPlatform platform) {
@@ -87,6 +120,7 @@ public class DataSourceMonitorJob extends AbstractJob {
                 }
             }
         }
+        schedulePingWorkers();
         if (!platform.isShuttingDown()) {
             scheduleMonitor();
         }
@@ -124,22 +158,24 @@ public class DataSourceMonitorJob extends AbstractJob {
         if (dataSource == null) {
             return;
         }
-        Long lastCheckTime;
+        Long checkTime;
         synchronized (this) {
-            lastCheckTime = checkCache.get(dsId);
+            checkTime = nextCheckTime.get(dsId);
         }
-        if (lastCheckTime == null) {
+        if (checkTime == null) {
             final Date connectTime = dataSourceDescriptor.getConnectTime();
             if (connectTime != null) {
-                lastCheckTime = connectTime.getTime();
+                checkTime = connectTime.getTime() + getKeepAliveDelay(keepAliveInterval);
+                synchronized (this) {
+                    nextCheckTime.put(dsId, checkTime);
+                }
             }
         }
-        if (lastCheckTime == null) {
+        if (checkTime == null) {
             log.debug("Can't determine last check time for " + dsId);
             return;
         }
-        long curTime = System.currentTimeMillis();
-        if ((curTime - lastCheckTime) / 1000 > keepAliveInterval) {
+        if (System.currentTimeMillis() >= checkTime) {
             boolean disconnectOnError = false;
             int failedAttemptCount = KeepAlivePingJob.getFailedAttemptCount(dataSource);
             if (failedAttemptCount >= MAX_FAILED_ATTEMPTS_BEFORE_IGNORE) {
@@ -148,20 +184,91 @@ public class DataSourceMonitorJob extends AbstractJob {
             if (failedAttemptCount > MAX_FAILED_ATTEMPTS_BEFORE_DISCONNECT) {
                 disconnectOnError = true;
             }
-            final KeepAlivePingJob pingJob = new KeepAlivePingJob(dataSource, disconnectOnError);
-            pingJob.addJobChangeListener(new JobChangeAdapter() {
-                @Override
-                public void done(IJobChangeEvent event) {
-                    synchronized (DataSourceMonitorJob.this) {
-                        checkCache.put(dsId, System.currentTimeMillis());
-                        pingCache.remove(dsId);
-                    }
-                }
-            });
+            String host = dataSourceDescriptor.getConnectionConfiguration().getHostName();
             synchronized (this) {
                 pingCache.add(dsId);
+                pingQueue.add(new PingTask(
+                    dataSource,
+                    dsId,
+                    CommonUtils.isEmpty(host) ? dsId : host,
+                    keepAliveInterval,
+                    disconnectOnError));
+            }
+        }
+    }
+
+    private static long getKeepAliveDelay(int keepAliveInterval) {
+        long delay = keepAliveInterval * 1000L;
+        return delay - (long) (ThreadLocalRandom.current().nextDouble() * delay * KEEP_ALIVE_JITTER);
+    }
+
+    private void schedulePingWorkers() {
+        int queueSize = getReadyPingCount();
+        long currentTime = System.currentTimeMillis();
+        int activeWorkers = 0;
+        for (Iterator<KeepAlivePingJob> iter = pingWorkers.iterator(); iter.hasNext(); ) {
+            KeepAlivePingJob worker = iter.next();
+            if (worker.getState() == Job.NONE) {
+                if (queueSize > 0 && activeWorkers < MAX_PING_WORKERS) {
+                    worker.schedule();
+                    queueSize--;
+                    activeWorkers++;
+                } else if (pingWorkers.size() > MAX_PING_WORKERS) {
+                    // Extra worker is not needed anymore
+                    iter.remove();
+                }
+            } else if (!worker.isStalled(currentTime)) {
+                activeWorkers++;
+            }
+        }
+        // Stalled workers hold their hosts only, the rest of the queue goes to new workers
+        while (queueSize > 0 && activeWorkers < MAX_PING_WORKERS) {
+            KeepAlivePingJob worker = new KeepAlivePingJob(this);
+            pingWorkers.add(worker);
+            worker.schedule();
+            queueSize--;
+            activeWorkers++;
+        }
+    }
+
+    /**
+     * Returns number of queued pings whose hosts have free ping slots
+     */
+    private synchronized int getReadyPingCount() {
+        int count = 0;
+        for (PingTask task : pingQueue) {
+            if (activeHostPings.getOrDefault(task.host, 0) < MAX_PINGS_PER_HOST) {
+                count++;
             }
-            pingJob.schedule();
+        }
+        return count;
+    }
+
+    /**
+     * Returns next queued ping whose host has free ping slots
+     */
+    @Nullable
+    synchronized PingTask pollPingTask() {
+        for (Iterator<PingTask> iter = pingQueue.iterator(); iter.hasNext(); ) {
+            PingTask task = iter.next();
+            int hostPings = activeHostPings.getOrDefault(task.host, 0);
+            if (hostPings < MAX_PINGS_PER_HOST) {
+                iter.remove();
+                activeHostPings.put(task.host, hostPings + 1);
+                return task;
+            }
+        }
+        return null;
+    }
+
+    synchronized void finishPingTask(@NotNull PingTask task) {
+        nextCheckTime.put(task.dsId, System.currentTimeMillis() + getKeepAliveDelay(task.keepAliveInterval));
+        pingCache.remove(task.dsId);
+        int hostPings = activeHostPings.getOrDefault(task.host, 1) - 1;
+        if (hostPings <= 0) {
+            activeHostPings.remove(task.host);
+        } else {
+            activeHostPings.put(task.host, hostPings);
         }
     }
 
@@ -31,26 +31,54 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * KeepAlivePingJob
+ * KeepAlivePingJob.
+ * Worker of DataSourceMonitorJob. Pings queued datasources one by one until the queue is empty.
  */
 class KeepAlivePingJob extends AbstractJob {
     private static final Log log = Log.getLog(KeepAlivePingJob.class);
 
     private static final Map<String, Integer> failedAttempts = new HashMap<>();
 
-    private final DBPDataSource dataSource;
-    private final boolean disconnectOnError;
+    private final DataSourceMonitorJob monitorJob;
+    // Start time of the current ping, 0 if worker doesn't ping anything
+    private volatile long pingStartTime;
 
-    KeepAlivePingJob(DBPDataSource dataSource, boolean disconnectOnError) {
-        super("Connection ping (" + dataSource.getContainer().getName() + ")");
+    KeepAlivePingJob(DataSourceMonitorJob monitorJob) {
+        super("Connection ping");
         setUser(false);
         setSystem(true);
-        this.dataSource = dataSource;
-        this.disconnectOnError = disconnectOnError;
+        this.monitorJob = monitorJob;
     }
 
     @Override
     protected IStatus run(DBRProgressMonitor monitor) {
+        for (;;) {
+            DataSourceMonitorJob.PingTask task = monitorJob.pollPingTask();
+            if (task == null) {
+                break;
+            }
+            pingStartTime = System.currentTimeMillis();
+            try {
+                pingDataSource(monitor, task.dataSource, task.disconnectOnError);
+            } catch (Throwable e) {
+                log.debug("Datasource " + task.dataSource.getName() + " ping failed", e);
+            } finally {
+                pingStartTime = 0;
+                monitorJob.finishPingTask(task);
+            }
+        }
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Returns true if current ping takes too long (e.g. host doesn't respond or reconnect is in progress)
+     */
+    boolean isStalled(long currentTime) {
+        long startTime = pingStartTime;
+        return startTime > 0 && currentTime - startTime > DataSourceMonitorJob.PING_STALL_TIMEOUT;
+    }
+
+    private static void pingDataSource(DBRProgressMonitor monitor, DBPDataSource dataSource, boolean disconnectOnError) {
         boolean hasDeadContexts = false;
         for (final DBSInstance instance : dataSource.getAvailableInstances()) {
             for (final DBCExecutionContext context : instance.getAllContexts()) {
@@ -88,10 +116,9 @@ class KeepAlivePingJob extends AbstractJob {
                 }
             }
         }
-        return Status.OK_STATUS;
     }
 
-    private boolean isSuccess(List<InvalidateJob.ContextInvalidateResult> results) {
+    private static boolean isSuccess(List<InvalidateJob.ContextInvalidateResult> results) {
         for (InvalidateJob.ContextInvalidateResult result : results) {
             switch (result.result) {
                 case ALIVE:
@@ -50,8 +50,27 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
 
     private static final Log log = Log.getLog(SSHImplementationJsch.class);
 
+    private static final SSHSessionPool<Session[]> sessionPool = new SSHSessionPool<>(new SSHSessionPool.SessionHandler<>() {
+        @Override
+        public boolean isSessionAlive(@NotNull Session[] sessions) {
+            for (Session session : sessions) {
+                if (!session.isConnected()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void closeSession(@NotNull Session[] sessions) {
+            disconnectSessions(sessions);
+        }
+    });
+
     private transient JSch jsch;
     private transient volatile Session[] sessions;
+    private transient SSHSessionPool.PooledSession<Session[]> pooledSession;
+    private transient SSHPortForwardConfiguration portForwarding;
 
     @Override
     protected synchronized void setupTunnel(@NotNull DBRProgressMonitor monitor, @NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts, @NotNull SSHPortForwardConfiguration portForward) throws DBException, IOException {
@@ -60,7 +79,28 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
             JSch.setLogger(new JschLoggerProxy());
         }
 
-        sessions = new Session[hosts.length];
+        if (isShareSession(configuration)) {
+            pooledSession = sessionPool.acquire(
+                SSHSessionPool.getSessionKey(configuration, hosts),
+                () -> openSessions(monitor, configuration, hosts));
+            sessions = pooledSession.getSession();
+        } else {
+            sessions = openSessions(monitor, configuration, hosts);
+        }
+
+        try {
+            log.debug("Set port forwarding " + portForward.getLocalHost() + ":" + portForward.getLocalPort() + " -> " + portForward.getRemoteHost() + ":" + portForward.getRemotePort());
+            sessions[sessions.length - 1].setPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort(), portForward.getRemoteHost(), portForward.getRemotePort());
+            portForwarding = portForward;
+        } catch (JSchException e) {
+            closeTunnel(monitor);
+            throw new DBException("Cannot establish port forwarding to " + portForward.getRemoteHost() + ":" + portForward.getRemotePort(), e);
+        }
+    }
+
+    @NotNull
+    private Session[] openSessions(@NotNull DBRProgressMonitor monitor, @NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts) throws DBException {
+        final Session[] sessions = new Session[hosts.length];
 
         for (int index = 0; index < hosts.length; index++) {
             final SSHHostConfiguration host = hosts[index];
@@ -119,18 +159,14 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
                 log.debug("Connect to tunnel host");
 
                 session.connect();
-
-                if (index == hosts.length - 1) {
-                    log.debug("Set port forwarding " + portForward.getLocalHost() + ":" + portForward.getLocalPort() + " -> " + portForward.getRemoteHost() + ":" + portForward.getRemotePort());
-                    session.setPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort(), portForward.getRemoteHost(), portForward.getRemotePort());
-                }
             } catch (JSchException e) {
-                closeTunnel(monitor);
+                disconnectSessions(sessions);
                 throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
             }
 
             sessions[index] = session;
         }
+        return sessions;
     }
 
     private void setupHostKeyVerification(Session session, DBWHandlerConfiguration configuration) throws JSchException {
@@ -161,21 +197,36 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
 
     @Override
     public synchronized void closeTunnel(DBRProgressMonitor monitor) {
+        Session[] sessions = this.sessions;
         if (ArrayUtils.isEmpty(sessions)) {
             return;
         }
-        RuntimeUtils.runTask(monitor1 -> {
-            Session[] sessions = this.sessions;
-            if (ArrayUtils.isEmpty(sessions)) {
-                return;
+        if (pooledSession != null) {
+            if (portForwarding != null) {
+                try {
+                    sessions[sessions.length - 1].delPortForwardingL(portForwarding.getLocalHost(), portForwarding.getLocalPort());
+                } catch (JSchException e) {
+                    log.debug("Error removing port forwarding: " + e.getMessage());
+                }
             }
+            // The session is closed when the last tunnel releases it
+            sessionPool.release(pooledSession);
+            pooledSession = null;
+        } else {
+            disconnectSessions(sessions);
+        }
+        portForwarding = null;
+        this.sessions = null;
+    }
+
+    private static void disconnectSessions(@NotNull Session[] sessions) {
+        RuntimeUtils.runTask(monitor1 -> {
             for (Session session : sessions) {
                 if (session != null && session.isConnected()) {
                     session.disconnect();
                 }
             }
         }, "Close SSH session", 1000);
-        sessions = null;
     }
 
     @Override
@@ -202,11 +253,19 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
             }
         }
         if (!isAlive) {
+            invalidateSharedSession();
             closeTunnel(monitor);
             initTunnel(monitor, savedConfiguration, savedConnectionInfo);
         }
     }
 
+    private synchronized void invalidateSharedSession() {
+        // Shared session may be half-open, do not reuse it
+        if (pooledSession != null) {
+            sessionPool.invalidate(pooledSession);
+        }
+    }
+
     @Override
     public void getFile(
         @NotNull String src,
@@ -62,8 +62,26 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
     private static final Log log = Log.getLog(SSHImplementationSshj.class);
 
+    private static final SSHSessionPool<SSHClient[]> sessionPool = new SSHSessionPool<>(new SSHSessionPool.SessionHandler<>() {
+        @Override
+        public boolean isSessionAlive(@NotNull SSHClient[] clients) {
+            for (SSHClient client : clients) {
+                if (!client.isConnected() || !client.isAuthenticated()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void closeSession(@NotNull SSHClient[] clients) {
+            disconnectClients(clients);
+        }
+    });
+
     private final List<LocalPortListener> listeners = new ArrayList<>();
     private SSHClient[] clients;
+    private SSHSessionPool.PooledSession<SSHClient[]> pooledSession;
 
     @Override
     protected synchronized void setupTunnel(
@@ -72,7 +90,41 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         @NotNull SSHHostConfiguration[] hosts,
         @NotNull SSHPortForwardConfiguration portForward
     ) throws DBException {
-        this.clients = new SSHClient[hosts.length];
+        try {
+            if (isShareSession(configuration)) {
+                pooledSession = sessionPool.acquire(
+                    SSHSessionPool.getSessionKey(configuration, hosts),
+                    () -> openClients(monitor, configuration, hosts));
+                clients = pooledSession.getSession();
+            } else {
+                clients = openClients(monitor, configuration, hosts);
+            }
+        } catch (IOException e) {
+            throw new DBException("Cannot establish SSH session", e);
+        }
+
+        try {
+            log.debug(String.format(
+                "Set port forwarding %s:%d -> %s:%d",
+                portForward.getLocalHost(), portForward.getLocalPort(),
+                portForward.getRemoteHost(), portForward.getRemotePort()));
+            setPortForwarding(
+                clients[clients.length - 1],
+                portForward.getLocalHost(), portForward.getLocalPort(),
+                portForward.getRemoteHost(), portForward.getRemotePort());
+        } catch (IOException e) {
+            closeTunnel(monitor);
+            throw new DBException("Cannot establish port forwarding to " + portForward.getRemoteHost() + ":" + portForward.getRemotePort(), e);
+        }
+    }
+
+    @NotNull
+    private SSHClient[] openClients(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBWHandlerConfiguration configuration,
+        @NotNull SSHHostConfiguration[] hosts
+    ) throws DBException {
+        final SSHClient[] clients = new SSHClient[hosts.length];
 
         final int connectTimeout = configuration.getIntProperty(SSHConstants.PROP_CONNECT_TIMEOUT);
         final int keepAliveInterval = configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL) / 1000; // sshj uses seconds for keep-alive interval
@@ -145,22 +197,12 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
                     default:
                         break;
                 }
-
-                if (index == hosts.length - 1) {
-                    log.debug(String.format(
-                        "Set port forwarding %s:%d -> %s:%d",
-                        portForward.getLocalHost(), portForward.getLocalPort(),
-                        portForward.getRemoteHost(), portForward.getRemotePort()));
-                    setPortForwarding(
-                        client,
-                        portForward.getLocalHost(), portForward.getLocalPort(),
-                        portForward.getRemoteHost(), portForward.getRemotePort());
-                }
             } catch (IOException e) {
-                closeTunnel(monitor);
+                disconnectClients(clients);
                 throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
             }
         }
+        return clients;
     }
 
     private static void setupHostKeyVerification(
@@ -185,29 +227,43 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         listeners.forEach(LocalPortListener::disconnect);
         listeners.clear();
 
-        if (!ArrayUtils.isEmpty(clients)) {
-            SSHClient[] clientsCopy = this.clients;
-            new AbstractJob("Close SSHJ clients") {
-                @Override
-                protected IStatus run(DBRProgressMonitor monitor) {
-                    for (SSHClient client : clientsCopy) {
-                        if (client != null && client.isConnected()) {
-                            try {
-                                log.debug("Disconnect SSHJ tunnel " + client);
-                                client.disconnect();
-                            } catch (Throwable e) {
-                                log.debug("Error closing session: " + e.getMessage());
-                            }
-                        }
-                    }
-                    return Status.OK_STATUS;
-                }
-            }.schedule();
+        if (pooledSession != null) {
+            // The session is closed when the last tunnel releases it
+            sessionPool.release(pooledSession);
+            pooledSession = null;
+        } else if (!ArrayUtils.isEmpty(clients)) {
+            disconnectClients(clients);
         }
 
         clients = null;
     }
 
+    private synchronized void invalidateSharedSession() {
+        // Shared session may be half-open, do not reuse it
+        if (pooledSession != null) {
+            sessionPool.invalidate(pooledSession);
+        }
+    }
+
+    private static void disconnectClients(@NotNull SSHClient[] clients) {
+        new AbstractJob("Close SSHJ clients") {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                for (SSHClient client : clients) {
+                    if (client != null && client.isConnected()) {
+                        try {
+                            log.debug("Disconnect SSHJ tunnel " + client);
+                            client.disconnect();
+                        } catch (Throwable e) {
+                            log.debug("Error closing session: " + e.getMessage());
+                        }
+                    }
+                }
+                return Status.OK_STATUS;
+            }
+        }.schedule();
+    }
+
     @Override
     public String getClientVersion() {
         return ArrayUtils.isEmpty(clients) ? null : clients[clients.length - 1].getTransport().getClientVersion();
@@ -220,6 +276,7 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
     @Override
     public void invalidateTunnel(DBRProgressMonitor monitor) throws DBException, IOException {
+        invalidateSharedSession();
         closeTunnel(monitor);
         initTunnel(monitor, savedConfiguration, savedConnectionInfo);
     }
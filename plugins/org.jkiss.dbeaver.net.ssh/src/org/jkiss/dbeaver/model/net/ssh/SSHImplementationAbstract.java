@@ -207,6 +207,13 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
         return new SSHHostConfiguration(username, hostname, port, authentication);
     }
 
+    /**
+     * Tunnels share SSH sessions unless it is explicitly disabled for this connection.
+     */
+    protected static boolean isShareSession(@NotNull DBWHandlerConfiguration configuration) {
+        return CommonUtils.getBoolean(configuration.getProperty(SSHConstants.PROP_SHARE_SESSION), true);
+    }
+
     @NotNull
     public static String getJumpServerSettingsPrefix(int index) {
         return SSHConstants.PROP_JUMP_SERVER + index + ".";
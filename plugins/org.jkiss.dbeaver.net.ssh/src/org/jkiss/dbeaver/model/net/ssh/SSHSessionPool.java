@@ -0,0 +1,203 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net.ssh;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
+import org.jkiss.dbeaver.model.net.ssh.config.SSHAuthConfiguration;
+import org.jkiss.dbeaver.model.net.ssh.config.SSHHostConfiguration;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool of SSH sessions shared between tunnels.
+ * Tunnels to the same host (with the same user, authentication and jump hosts) use one SSH session,
+ * each tunnel opens its own port forwarding channels in it.
+ * Sessions are reference counted and closed when the last tunnel releases them.
+ * Dead and invalidated sessions are replaced on the next acquire.
+ *
+ * @param <SESSION> implementation-specific session (or chain of sessions for jump hosts)
+ */
+public class SSHSessionPool<SESSION> {
+
+    private static final Log log = Log.getLog(SSHSessionPool.class);
+
+    public interface SessionFactory<SESSION> {
+        @NotNull
+        SESSION openSession() throws DBException, IOException;
+    }
+
+    public interface SessionHandler<SESSION> {
+        boolean isSessionAlive(@NotNull SESSION session);
+
+        void closeSession(@NotNull SESSION session);
+    }
+
+    /**
+     * Session lease. Must be released exactly once.
+     */
+    public static class PooledSession<SESSION> {
+        private final String key;
+        private SESSION session;
+        private int refCount;
+        private boolean removed;
+
+        private PooledSession(String key) {
+            this.key = key;
+        }
+
+        @NotNull
+        public SESSION getSession() {
+            return session;
+        }
+    }
+
+    private final SessionHandler<SESSION> handler;
+    private final Map<String, PooledSession<SESSION>> sessions = new HashMap<>();
+
+    public SSHSessionPool(@NotNull SessionHandler<SESSION> handler) {
+        this.handler = handler;
+    }
+
+    @NotNull
+    public PooledSession<SESSION> acquire(@NotNull String key, @NotNull SessionFactory<SESSION> factory) throws DBException, IOException {
+        for (;;) {
+            PooledSession<SESSION> pooled;
+            synchronized (sessions) {
+                pooled = sessions.computeIfAbsent(key, PooledSession::new);
+            }
+            // Handshake is done under the entry lock, so tunnels to other hosts are not blocked
+            synchronized (pooled) {
+                if (!pooled.removed && pooled.session != null && !handler.isSessionAlive(pooled.session)) {
+                    // Current users keep the broken session and release it later
+                    log.debug("Shared SSH session is broken, reconnecting");
+                    removeEntry(pooled);
+                    continue;
+                }
+                if (pooled.removed) {
+                    // Entry was released or replaced while we were waiting for it
+                    continue;
+                }
+                if (pooled.session == null) {
+                    try {
+                        pooled.session = factory.openSession();
+                    } catch (DBException | IOException | RuntimeException e) {
+                        removeEntry(pooled);
+                        throw e;
+                    }
+                } else {
+                    log.debug("Reuse shared SSH session (" + pooled.refCount + " tunnel(s))");
+                }
+                pooled.refCount++;
+                return pooled;
+            }
+        }
+    }
+
+    public void release(@NotNull PooledSession<SESSION> pooled) {
+        SESSION sessionToClose = null;
+        synchronized (pooled) {
+            if (pooled.refCount <= 0) {
+                log.debug("Shared SSH session released more than once");
+                return;
+            }
+            pooled.refCount--;
+            if (pooled.refCount == 0) {
+                removeEntry(pooled);
+                sessionToClose = pooled.session;
+                pooled.session = null;
+            }
+        }
+        if (sessionToClose != null) {
+            handler.closeSession(sessionToClose);
+        }
+    }
+
+    /**
+     * Removes session from the pool, so the next acquire opens a new one.
+     * Current users keep the session until they release it.
+     */
+    public void invalidate(@NotNull PooledSession<SESSION> pooled) {
+        synchronized (pooled) {
+            if (!pooled.removed) {
+                log.debug("Shared SSH session invalidated");
+                removeEntry(pooled);
+            }
+        }
+    }
+
+    /**
+     * Must be called under the entry lock
+     */
+    private void removeEntry(@NotNull PooledSession<SESSION> pooled) {
+        pooled.removed = true;
+        synchronized (sessions) {
+            if (sessions.get(pooled.key) == pooled) {
+                sessions.remove(pooled.key);
+            }
+        }
+    }
+
+    /**
+     * Key of the session chain. Includes all hosts, users, authentication and session settings.
+     * Secrets are included as digests.
+     */
+    @NotNull
+    public static String getSessionKey(@NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts) {
+        StringBuilder key = new StringBuilder();
+        key.append("bypassHostVerification=").append(configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION))
+            .append(",connectTimeout=").append(configuration.getIntProperty(SSHConstants.PROP_CONNECT_TIMEOUT))
+            .append(",aliveInterval=").append(configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL))
+            .append(": ");
+        int hostCount = 0;
+        for (SSHHostConfiguration host : hosts) {
+            SSHAuthConfiguration auth = host.getAuthConfiguration();
+            if (hostCount++ > 0) {
+                key.append(" -> ");
+            }
+            key.append(host.getUsername()).append('@').append(host.getHostname()).append(':').append(host.getPort())
+                .append('/').append(auth.getType());
+            if (auth.getKeyFile() != null) {
+                key.append('/').append(auth.getKeyFile().toAbsolutePath());
+            }
+            if (!CommonUtils.isEmpty(auth.getKeyValue()) || !CommonUtils.isEmpty(auth.getPassword())) {
+                key.append('/').append(getDigest(CommonUtils.notEmpty(auth.getKeyValue()) + '\0' + CommonUtils.notEmpty(auth.getPassword())));
+            }
+        }
+        return key.toString();
+    }
+
+    @NotNull
+    private static String getDigest(@NotNull String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return CommonUtils.toHexString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Never happens, SHA-256 is always available
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
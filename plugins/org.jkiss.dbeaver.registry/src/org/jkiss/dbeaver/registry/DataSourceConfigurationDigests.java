@@ -0,0 +1,101 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.secret.DBSValueEncryptor;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Digests of configuration files contents as they were last written.
+ * Digest is always taken from the bytes written to the file (i.e. encrypted data for encrypted files).
+ */
+public class DataSourceConfigurationDigests {
+
+    private static final byte[] EMPTY_DIGEST = new byte[0];
+
+    private final Map<String, byte[]> digests = new HashMap<>();
+
+    /**
+     * Checks whether the specified data is exactly what was last written to the configuration file.
+     */
+    public synchronized boolean isUnchanged(@NotNull String name, @Nullable byte[] data) {
+        byte[] prevDigest = digests.get(name);
+        return prevDigest != null && Arrays.equals(prevDigest, makeDigest(data));
+    }
+
+    /**
+     * Checks whether encrypted configuration file doesn't need to be written again.
+     * Encryption uses random IV so the same contents never produce the same bytes. Instead, the file bytes
+     * must be the ones last written by us and they must decrypt into the same contents with the current key.
+     *
+     * @param contents    new plain contents
+     * @param writtenData current file data
+     */
+    public boolean isUnchangedEncrypted(
+        @NotNull String name,
+        @NotNull byte[] contents,
+        @Nullable byte[] writtenData,
+        @NotNull DBSValueEncryptor encryptor
+    ) {
+        if (writtenData == null || !isUnchanged(name, writtenData)) {
+            return false;
+        }
+        try {
+            return Arrays.equals(encryptor.decryptValue(writtenData), contents);
+        } catch (DBException e) {
+            // Key was changed or file is broken
+            return false;
+        }
+    }
+
+    public synchronized void setWritten(@NotNull String name, @Nullable byte[] data) {
+        byte[] digest = makeDigest(data);
+        if (digest == null) {
+            digests.remove(name);
+        } else {
+            digests.put(name, digest);
+        }
+    }
+
+    public synchronized void reset(@NotNull String name) {
+        digests.remove(name);
+    }
+
+    public synchronized void clear() {
+        digests.clear();
+    }
+
+    @Nullable
+    private static byte[] makeDigest(@Nullable byte[] data) {
+        if (data == null) {
+            return EMPTY_DIGEST;
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+}
@@ -26,8 +26,10 @@ import org.jkiss.dbeaver.utils.ContentUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -137,7 +139,14 @@ public class DataSourceConfigurationManagerNIO implements DataSourceConfiguratio
                 }
             }
         } else {
-            Files.write(configFile, data);
+            // Write into a temp file first so readers never see partially written config
+            Path tempFile = configFile.resolveSibling(configFile.getFileName() + ".tmp");
+            Files.write(tempFile, data);
+            try {
+                Files.move(tempFile, configFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, configFile, StandardCopyOption.REPLACE_EXISTING);
+            }
         }
     }
 }
@@ -83,6 +83,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * DataSourceDescriptor
@@ -186,6 +187,11 @@ public class DataSourceDescriptor
 
     private transient final DBPExclusiveResource exclusiveLock = new SimpleExclusiveLock();
 
+    // Configuration version. Incremented on each change which must be reflected in the saved config
+    private transient final AtomicLong configurationVersion = new AtomicLong();
+    // Last serialized configuration (see DataSourceSerializerModern)
+    private transient volatile SerializedConfiguration serializedConfiguration;
+
     public DataSourceDescriptor(
         @NotNull DBPDataSourceRegistry registry,
         @NotNull String id,
@@ -845,6 +851,33 @@ public class DataSourceDescriptor
         return registry.getProject();
     }
 
+    /**
+     * Marks configuration as changed. Next registry save will serialize this data source again.
+     */
+    public void markConfigurationDirty() {
+        configurationVersion.incrementAndGet();
+    }
+
+    long getConfigurationVersion() {
+        return configurationVersion.get();
+    }
+
+    /**
+     * Returns cached serialized configuration or null if configuration was changed after the last save.
+     */
+    @Nullable
+    SerializedConfiguration getSerializedConfiguration() {
+        SerializedConfiguration cfg = serializedConfiguration;
+        if (cfg == null || cfg.version != configurationVersion.get()) {
+            return null;
+        }
+        return cfg;
+    }
+
+    void setSerializedConfiguration(@Nullable SerializedConfiguration serializedConfiguration) {
+        this.serializedConfiguration = serializedConfiguration;
+    }
+
     @Override
     public boolean persistConfiguration() {
         try {
@@ -1762,6 +1795,7 @@ public class DataSourceDescriptor
     }
 
     public void copyFrom(DataSourceDescriptor descriptor) {
+        markConfigurationDirty();
         this.origin = descriptor.origin;
         this.filterMap.clear();
         for (FilterMapping mapping : descriptor.getObjectFilters()) {
@@ -2175,4 +2209,18 @@ public class DataSourceDescriptor
     }
 
 
+    static class SerializedConfiguration {
+        final long version;
+        @NotNull
+        final String json;
+        @Nullable
+        final Map<String, Map<String, String>> secureProperties;
+
+        SerializedConfiguration(long version, @NotNull String json, @Nullable Map<String, Map<String, String>> secureProperties) {
+            this.version = version;
+            this.json = json;
+            this.secureProperties = secureProperties;
+        }
+    }
+
 }
@@ -20,6 +20,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.DBPDataSourceContainerProvider;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
 import org.jkiss.dbeaver.model.impl.preferences.AbstractPreferenceStore;
 import org.jkiss.dbeaver.model.impl.preferences.SimplePreferenceStore;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
@@ -56,7 +57,14 @@ public class DataSourcePreferenceStore extends SimplePreferenceStore implements
     public void save()
         throws IOException
     {
-        dataSourceDescriptor.getRegistry().flushConfig();
+        dataSourceDescriptor.markConfigurationDirty();
+        DBPDataSourceRegistry registry = dataSourceDescriptor.getRegistry();
+        if (registry instanceof DataSourceRegistry) {
+            // Only this data source was changed
+            ((DataSourceRegistry) registry).scheduleConfigSave();
+        } else {
+            registry.flushConfig();
+        }
     }
 
     @Nullable
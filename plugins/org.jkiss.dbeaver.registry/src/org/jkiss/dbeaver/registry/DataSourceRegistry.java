@@ -81,6 +81,8 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
     private final List<DBWNetworkProfile> networkProfiles = new ArrayList<>();
     private final Map<String, DBAAuthProfile> authProfiles = new LinkedHashMap<>();
     private volatile boolean saveInProgress = false;
+    // Digests of configuration files as they were last written. Unchanged files are not rewritten.
+    private final DataSourceConfigurationDigests savedConfigDigests = new DataSourceConfigurationDigests();
 
     private final DBVModel.ModelChangeListener modelChangeListener = new DBVModel.ModelChangeListener();
     private volatile ConfigSaver configSaver;
@@ -533,6 +535,7 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
 
     public void addDataSource(@NotNull DBPDataSourceContainer dataSource) throws DBException {
         final DataSourceDescriptor descriptor = (DataSourceDescriptor) dataSource;
+        descriptor.markConfigurationDirty();
         addDataSourceToList(descriptor);
         descriptor.persistSecretIfNeeded(true);
         if (!descriptor.isDetached()) {
@@ -585,10 +588,11 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
         if (!dataSources.containsKey(dataSource.getId())) {
             addDataSource(dataSource);
         } else {
-            if (!((DataSourceDescriptor) dataSource).isDetached()) {
+            DataSourceDescriptor descriptor = (DataSourceDescriptor) dataSource;
+            descriptor.markConfigurationDirty();
+            if (!descriptor.isDetached()) {
                 persistDataSourceUpdate(dataSource);
             }
-            DataSourceDescriptor descriptor = (DataSourceDescriptor) dataSource;
             descriptor.persistSecretIfNeeded(false);
             this.fireDataSourceEvent(DBPEvent.Action.OBJECT_UPDATE, dataSource);
         }
@@ -599,7 +603,8 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
     }
 
     protected void persistDataSourceUpdate(@NotNull DBPDataSourceContainer container) {
-        saveDataSources();
+        // Only changed data source will be re-serialized
+        saveDataSources(new VoidProgressMonitor());
     }
 
     protected void persistDataFolderDelete(@NotNull String folderPath, boolean dropContents) {
@@ -607,11 +612,20 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
     }
 
     protected void persistDataSourceDelete(@NotNull DBPDataSourceContainer container) {
-        saveDataSources();
+        saveDataSources(new VoidProgressMonitor());
     }
 
     @Override
     public void flushConfig() {
+        // We don't know what was changed, so re-serialize everything
+        markDataSourcesDirty();
+        scheduleConfigSave();
+    }
+
+    /**
+     * Schedules configuration save. Only data sources marked as dirty will be serialized again.
+     */
+    void scheduleConfigSave() {
         if (project.isInMemory()) {
             return;
         }
@@ -759,6 +773,8 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
         }
         // Clear filters before reload
         savedFilters.clear();
+        // Config files may be changed externally
+        savedConfigDigests.clear();
 
         // Parse datasources
         ParseResults parseResults = new ParseResults();
@@ -769,6 +785,10 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
             }
         }
 
+        for (DBPDataSourceContainer ds : parseResults.updatedDataSources) {
+            ((DataSourceDescriptor) ds).markConfigurationDirty();
+        }
+
         // Reflect changes
         if (refresh) {
             for (DBPDataSourceContainer ds : parseResults.updatedDataSources) {
@@ -846,9 +866,23 @@ public class DataSourceRegistry implements DBPDataSourceRegistry, DataSourcePers
 
     @Override
     public void saveDataSources() {
+        markDataSourcesDirty();
         saveDataSources(new VoidProgressMonitor());
     }
 
+    private void markDataSourcesDirty() {
+        synchronized (dataSources) {
+            for (DataSourceDescriptor ds : dataSources.values()) {
+                ds.markConfigurationDirty();
+            }
+        }
+    }
+
+    @NotNull
+    DataSourceConfigurationDigests getSavedConfigDigests() {
+        return savedConfigDigests;
+    }
+
     protected void saveDataSources(DBRProgressMonitor monitor) {
         if (project.isInMemory()) {
             return;
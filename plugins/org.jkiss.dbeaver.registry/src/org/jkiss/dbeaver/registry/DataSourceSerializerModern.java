@@ -131,6 +131,8 @@ class DataSourceSerializerModern implements DataSourceSerializer
                 Map<String, DBPConnectionType> connectionTypes = new LinkedHashMap<>();
                 Map<String, Map<String, DBPDriver>> drivers = new LinkedHashMap<>();
                 Map<String, DBPExternalConfiguration> externalConfigurations = new LinkedHashMap<>();
+                // Serialized data sources can be reused only for the registry's own configuration manager
+                boolean useSerializedCache = configurationManager == registry.getConfigurationManager();
                 {
                     // Save connections
                     jsonWriter.name("connections");
@@ -138,7 +140,11 @@ class DataSourceSerializerModern implements DataSourceSerializer
                     for (DataSourceDescriptor dataSource : localDataSources) {
                         // Skip temporary
                         if (!dataSource.isDetached()) {
-                            saveDataSource(configurationManager, jsonWriter, dataSource, externalConfigurations);
+                            if (useSerializedCache) {
+                                saveDataSourceCached(configurationManager, jsonWriter, dataSource, externalConfigurations);
+                            } else {
+                                saveDataSource(configurationManager, jsonWriter, dataSource, externalConfigurations);
+                            }
                             if (dataSource.getVirtualModel().hasValuableData()) {
                                 virtualModels.put(dataSource.getVirtualModel().getId(), dataSource.getVirtualModel());
                             }
@@ -330,19 +336,49 @@ class DataSourceSerializerModern implements DataSourceSerializer
     }
 
     private void saveConfigFile(DataSourceConfigurationManager configurationManager, String name, String contents, boolean teamPrivate, boolean encrypt) throws DBException, IOException {
-        byte[] binaryContents = null;
-        if (contents != null) {
-            if (encrypt) {
-                // Serialize and encrypt
-                DBSValueEncryptor valueEncryptor = new DefaultValueEncryptor(registry.getProject().getLocalSecretKey());
-                binaryContents = valueEncryptor.encryptValue(contents.getBytes(StandardCharsets.UTF_8));
-            } else {
-                binaryContents = contents.getBytes(StandardCharsets.UTF_8);
+        byte[] plainContents = contents == null ? null : contents.getBytes(StandardCharsets.UTF_8);
+        byte[] binaryContents = plainContents;
+        // Digests are tracked only for the registry's own configuration manager
+        DataSourceConfigurationDigests configDigests =
+            configurationManager == registry.getConfigurationManager() ? registry.getSavedConfigDigests() : null;
+        if (plainContents != null && encrypt) {
+            DBSValueEncryptor valueEncryptor = new DefaultValueEncryptor(registry.getProject().getLocalSecretKey());
+            if (configDigests != null &&
+                configDigests.isUnchangedEncrypted(name, plainContents, readConfigFile(configurationManager, name), valueEncryptor))
+            {
+                // Nothing was changed since the last save
+                return;
             }
+            // Serialize and encrypt
+            binaryContents = valueEncryptor.encryptValue(plainContents);
+        } else if (configDigests != null && configDigests.isUnchanged(name, binaryContents)) {
+            // Nothing was changed since the last save
+            return;
         }
 
         // Save result to file
-        configurationManager.writeConfiguration(name, binaryContents);
+        try {
+            configurationManager.writeConfiguration(name, binaryContents);
+        } catch (DBException | IOException e) {
+            if (configDigests != null) {
+                // File state is unknown now
+                configDigests.reset(name);
+            }
+            throw e;
+        }
+        if (configDigests != null) {
+            configDigests.setWritten(name, binaryContents);
+        }
+    }
+
+    @Nullable
+    private static byte[] readConfigFile(DataSourceConfigurationManager configurationManager, String name) {
+        try (InputStream is = configurationManager.readConfiguration(name, null)) {
+            return is == null ? null : is.readAllBytes();
+        } catch (Exception e) {
+            log.debug("Error reading config file '" + name + "'", e);
+            return null;
+        }
     }
 
     private void saveSecureCredentialsFile(DataSourceConfigurationManager configurationManager, DBPDataSourceConfigurationStorage storage) {
@@ -935,6 +971,55 @@ class DataSourceSerializerModern implements DataSourceSerializer
         json.endObject();
     }
 
+    /**
+     * Saves data source using its cached serialized configuration.
+     * Data source is serialized again only if it was changed since the last save.
+     */
+    private void saveDataSourceCached(
+        DataSourceConfigurationManager configurationManager, @NotNull JsonWriter json,
+        @NotNull DataSourceDescriptor dataSource,
+        @NotNull Map<String, DBPExternalConfiguration> externalConfigurations)
+        throws IOException
+    {
+        DataSourceDescriptor.SerializedConfiguration serialized = dataSource.getSerializedConfiguration();
+        if (serialized == null) {
+            long version = dataSource.getConfigurationVersion();
+            StringWriter buffer = new StringWriter();
+            try (JsonWriter dsWriter = CONFIG_GSON.newJsonWriter(buffer)) {
+                dsWriter.setIndent(JSONUtils.DEFAULT_INDENT);
+                saveDataSourceConfiguration(configurationManager, dsWriter, dataSource, externalConfigurations);
+                dsWriter.flush();
+            }
+            // Data source object is written at the third nesting level (root -> connections -> data source)
+            String dsJson = buffer.toString().replace("\n", "\n" + JSONUtils.DEFAULT_INDENT + JSONUtils.DEFAULT_INDENT);
+            serialized = new DataSourceDescriptor.SerializedConfiguration(
+                version,
+                dsJson,
+                secureProperties.get(dataSource.getId()));
+            dataSource.setSerializedConfiguration(serialized);
+        } else {
+            collectExternalConfiguration(dataSource, externalConfigurations);
+            if (serialized.secureProperties != null) {
+                secureProperties.put(dataSource.getId(), serialized.secureProperties);
+            }
+        }
+        json.name(dataSource.getId());
+        json.jsonValue(serialized.json);
+    }
+
+    private static void collectExternalConfiguration(
+        @NotNull DataSourceDescriptor dataSource,
+        @NotNull Map<String, DBPExternalConfiguration> externalConfigurations)
+    {
+        DBPDataSourceOrigin origin = dataSource.getOriginSource();
+        if (origin instanceof DBPDataSourceOriginExternal) {
+            DBPExternalConfiguration externalConfiguration = ((DBPDataSourceOriginExternal) origin).getExternalConfiguration();
+            if (externalConfiguration != null) {
+                externalConfigurations.put(externalConfiguration.getId(), externalConfiguration);
+            }
+        }
+    }
+
     private void saveDataSource(
         DataSourceConfigurationManager configurationManager, @NotNull JsonWriter json,
         @NotNull DataSourceDescriptor dataSource,
@@ -942,6 +1027,15 @@ class DataSourceSerializerModern implements DataSourceSerializer
         throws IOException
     {
         json.name(dataSource.getId());
+        saveDataSourceConfiguration(configurationManager, json, dataSource, externalConfigurations);
+    }
+
+    private void saveDataSourceConfiguration(
+        DataSourceConfigurationManager configurationManager, @NotNull JsonWriter json,
+        @NotNull DataSourceDescriptor dataSource,
+        @NotNull Map<String, DBPExternalConfiguration> externalConfigurations)
+        throws IOException
+    {
         json.beginObject();
         JSONUtils.field(json, RegistryConstants.ATTR_PROVIDER, dataSource.getDriver().getProviderDescriptor().getId());
         JSONUtils.field(json, RegistryConstants.ATTR_DRIVER, dataSource.getDriver().getId());
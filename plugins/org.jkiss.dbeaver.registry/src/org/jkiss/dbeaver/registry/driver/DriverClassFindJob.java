@@ -33,10 +33,12 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 public class DriverClassFindJob implements DBRRunnableWithProgress {
 
@@ -79,24 +81,43 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
         }
         ClassLoader findCL = new URLClassLoader(libURLs.toArray(new URL[0]));
 
+        List<Path> jarFiles = new ArrayList<>();
         for (Path libFile : libFiles) {
-            if (monitor.isCanceled()) {
-                break;
-            }
-            if (!Files.isDirectory(libFile)) {
-                findDriverClasses(monitor, findCL, libFile);
+            if (libFile != null && !Files.isDirectory(libFile)) {
+                jarFiles.add(libFile);
             }
         }
+        monitor.beginTask("Find driver classes", jarFiles.size());
+        // Jars are independent, scan them in parallel. Results are kept in libraries order.
+        List<List<String>> jarClassNames = jarFiles.parallelStream()
+            .map(libFile -> {
+                if (monitor.isCanceled()) {
+                    return Collections.<String>emptyList();
+                }
+                List<String> classNames = findDriverClasses(monitor, findCL, libFile);
+                synchronized (monitor) {
+                    monitor.worked(1);
+                }
+                return classNames;
+            })
+            .collect(Collectors.toList());
+        for (List<String> classNames : jarClassNames) {
+            driverClassNames.addAll(classNames);
+        }
+        monitor.done();
     }
 
-    private void findDriverClasses(DBRProgressMonitor monitor, ClassLoader findCL, Path libFile) {
+    private List<String> findDriverClasses(DBRProgressMonitor monitor, ClassLoader findCL, Path libFile) {
+        List<String> classNames = new ArrayList<>();
         String jarName = libFile.getFileName().toString();
         if (!jarName.endsWith(".jar") && !jarName.endsWith(".zip")) {
             // Dummy file type validation
-            return;
+            return classNames;
         }
         try (JarFile currentFile = new JarFile(libFile.toFile(), false)) {
-            monitor.beginTask(jarName, currentFile.size());
+            synchronized (monitor) {
+                monitor.subTask(jarName);
+            }
 
             for (Enumeration<?> e = currentFile.entries(); e.hasMoreElements(); ) {
                 {
@@ -107,22 +128,20 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
                     String fileName = current.getName();
                     if (fileName.endsWith(CLASS_FILE_EXT) && !fileName.contains("$")) { //$NON-NLS-1$ //$NON-NLS-2$
                         String className = fileName.replaceAll("/", ".").replace(CLASS_FILE_EXT, ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-                        monitor.subTask(className);
                         try {
                             if (implementsInterface(currentFile, current, 0)) {
-                                driverClassNames.add(className);
+                                classNames.add(className);
                             }
                         } catch (Throwable e1) {
                             // do nothing
                         }
-                        monitor.worked(1);
                     }
                 }
             }
-            monitor.done();
         } catch (IOException e) {
             log.debug(e);
         }
+        return classNames;
     }
 
     private boolean implementsInterface(JarFile currentFile, JarEntry current, int depth) throws IOException {
@@ -0,0 +1,292 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Index of driver libraries: resource folder (package) to jars which contain it.
+ * Lets driver class loader open only jars which may contain requested class or resource.
+ * Index is built once (jars are scanned in parallel) and cached in workspace metadata.
+ * Cached index is rebuilt when the list of libraries or their sizes/modification times change.
+ * Libraries which refer other jars in manifest Class-Path are not indexed.
+ */
+public class DriverClassIndex {
+
+    private static final Log log = Log.getLog(DriverClassIndex.class);
+
+    private static final String INDEX_FOLDER = "driver-index"; //$NON-NLS-1$
+    private static final String INDEX_FILE_EXT = ".idx"; //$NON-NLS-1$
+    private static final String VERSIONS_FOLDER = "META-INF/versions/"; //$NON-NLS-1$
+    private static final String LINE_JAR = "J"; //$NON-NLS-1$
+    private static final String LINE_FOLDER = "F"; //$NON-NLS-1$
+    private static final String LINE_NOT_INDEXED = "N"; //$NON-NLS-1$
+
+    // Marks libraries which must be loaded by regular class loader
+    private static final DriverClassIndex NOT_INDEXED = new DriverClassIndex(Collections.emptyList(), Collections.emptyMap());
+
+    @NotNull
+    private final List<Path> jars;
+    @NotNull
+    private final Map<String, int[]> folders;
+
+    private DriverClassIndex(@NotNull List<Path> jars, @NotNull Map<String, int[]> folders) {
+        this.jars = jars;
+        this.folders = folders;
+    }
+
+    /**
+     * Returns jars which contain the folder of specified resource (in classpath order)
+     */
+    @NotNull
+    public List<Path> getJars(@NotNull String resourceName) {
+        int[] jarIndexes = folders.get(getFolderName(resourceName));
+        if (jarIndexes == null) {
+            return Collections.emptyList();
+        }
+        List<Path> result = new ArrayList<>(jarIndexes.length);
+        for (int index : jarIndexes) {
+            result.add(jars.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Loads cached index of driver libraries or builds new one.
+     * Returns null if libraries can't be indexed (e.g. some of them are folders).
+     */
+    @Nullable
+    static DriverClassIndex getIndex(@NotNull DriverDescriptor driver, @NotNull List<Path> libraries) {
+        Path indexFile = GeneralUtils.getMetadataFolder()
+            .resolve(INDEX_FOLDER)
+            .resolve(CommonUtils.escapeFileName(driver.getFullId()) + INDEX_FILE_EXT);
+        return getIndex(indexFile, libraries);
+    }
+
+    /**
+     * Loads index from the specified cache file or builds new one (and saves it in this file).
+     * Returns null if libraries can't be indexed.
+     */
+    @Nullable
+    public static DriverClassIndex getIndex(@NotNull Path indexFile, @NotNull List<Path> libraries) {
+        List<Path> jars = new ArrayList<>(libraries.size());
+        for (Path library : libraries) {
+            if (!Files.isRegularFile(library)) {
+                // Folders and missing files are resolved by regular class loader
+                return null;
+            }
+            jars.add(library.toAbsolutePath());
+        }
+        if (jars.isEmpty()) {
+            return null;
+        }
+        String signature;
+        try {
+            signature = getSignature(jars);
+        } catch (IOException e) {
+            log.debug("Can't read driver libraries info: " + e.getMessage());
+            return null;
+        }
+        if (Files.exists(indexFile)) {
+            try {
+                DriverClassIndex index = readIndex(indexFile, signature);
+                if (index != null) {
+                    return index == NOT_INDEXED ? null : index;
+                }
+            } catch (Exception e) {
+                log.debug("Error reading driver class index " + indexFile + ": " + e.getMessage());
+            }
+        }
+
+        long startTime = System.currentTimeMillis();
+        DriverClassIndex index;
+        try {
+            index = buildIndex(jars);
+        } catch (Exception e) {
+            log.debug("Error building class index " + indexFile + ": " + e.getMessage());
+            return null;
+        }
+        if (index == NOT_INDEXED) {
+            log.debug("Driver libraries " + indexFile.getFileName() + " use manifest class path, class index is disabled");
+        } else {
+            log.debug("Class index " + indexFile.getFileName() + " built in " + (System.currentTimeMillis() - startTime) +
+                "ms (" + jars.size() + " jars, " + index.folders.size() + " folders)");
+        }
+        try {
+            writeIndex(indexFile, signature, index);
+        } catch (IOException e) {
+            log.debug("Error saving driver class index " + indexFile + ": " + e.getMessage());
+        }
+        return index == NOT_INDEXED ? null : index;
+    }
+
+    @NotNull
+    private static DriverClassIndex buildIndex(@NotNull List<Path> jars) {
+        // Opening jar reads its central directory, so big drivers benefit from parallel scan
+        List<Set<String>> jarFolders = jars.parallelStream()
+            .map(DriverClassIndex::readJarFolders)
+            .collect(Collectors.toList());
+        if (jarFolders.contains(null)) {
+            // Jars from manifest class path are loaded by regular class loader only
+            return NOT_INDEXED;
+        }
+        Map<String, List<Integer>> folderJars = new HashMap<>();
+        for (int i = 0; i < jarFolders.size(); i++) {
+            for (String folder : jarFolders.get(i)) {
+                folderJars.computeIfAbsent(folder, k -> new ArrayList<>(1)).add(i);
+            }
+        }
+        Map<String, int[]> folders = new HashMap<>(folderJars.size());
+        for (Map.Entry<String, List<Integer>> entry : folderJars.entrySet()) {
+            folders.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new DriverClassIndex(jars, folders);
+    }
+
+    /**
+     * Returns folders of jar entries or null if jar manifest refers other jars
+     */
+    @Nullable
+    private static Set<String> readJarFolders(@NotNull Path jar) {
+        Set<String> folders = new HashSet<>();
+        try (JarFile jarFile = new JarFile(jar.toFile(), false)) {
+            Manifest manifest = jarFile.getManifest();
+            if (manifest != null && !CommonUtils.isEmpty(manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH))) {
+                return null;
+            }
+            for (Enumeration<? extends ZipEntry> e = jarFile.entries(); e.hasMoreElements(); ) {
+                String name = e.nextElement().getName();
+                if (name.startsWith(VERSIONS_FOLDER)) {
+                    // Multi-release jar entries are looked up by their base names
+                    int divPos = name.indexOf('/', VERSIONS_FOLDER.length());
+                    if (divPos < 0) {
+                        continue;
+                    }
+                    name = name.substring(divPos + 1);
+                }
+                folders.add(getFolderName(name));
+            }
+        } catch (ZipException e) {
+            // Not a jar (e.g. native library). Class loader ignores such files too.
+            log.debug("Skip non-jar driver library " + jar + ": " + e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return folders;
+    }
+
+    @NotNull
+    private static String getFolderName(@NotNull String resourceName) {
+        if (resourceName.endsWith("/")) {
+            resourceName = resourceName.substring(0, resourceName.length() - 1);
+        }
+        int divPos = resourceName.lastIndexOf('/');
+        return divPos < 0 ? "" : resourceName.substring(0, divPos);
+    }
+
+    @NotNull
+    private static String getSignature(@NotNull List<Path> jars) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        for (Path jar : jars) {
+            String jarInfo = jar + "\t" + Files.size(jar) + "\t" + Files.getLastModifiedTime(jar).toMillis() + "\n";
+            digest.update(jarInfo.getBytes(StandardCharsets.UTF_8));
+        }
+        return CommonUtils.toHexString(digest.digest());
+    }
+
+    @Nullable
+    private static DriverClassIndex readIndex(@NotNull Path indexFile, @NotNull String signature) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!signature.equals(reader.readLine())) {
+                // Libraries were changed
+                return null;
+            }
+            List<Path> jars = new ArrayList<>();
+            Map<String, int[]> folders = new HashMap<>();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (LINE_NOT_INDEXED.equals(line)) {
+                    return NOT_INDEXED;
+                }
+                String[] parts = line.split("\t");
+                if (parts.length < 2) {
+                    continue;
+                }
+                if (LINE_JAR.equals(parts[0])) {
+                    jars.add(Path.of(parts[1]));
+                } else if (LINE_FOLDER.equals(parts[0])) {
+                    int[] jarIndexes = new int[parts.length - 2];
+                    for (int i = 0; i < jarIndexes.length; i++) {
+                        jarIndexes[i] = Integer.parseInt(parts[i + 2]);
+                    }
+                    folders.put(parts[1], jarIndexes);
+                }
+            }
+            return new DriverClassIndex(jars, folders);
+        }
+    }
+
+    private static void writeIndex(@NotNull Path indexFile, @NotNull String signature, @NotNull DriverClassIndex index) throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            writer.write(signature);
+            writer.write('\n');
+            if (index == NOT_INDEXED) {
+                writer.write(LINE_NOT_INDEXED + "\n");
+            }
+            for (Path jar : index.jars) {
+                writer.write(LINE_JAR + "\t" + jar + "\n");
+            }
+            for (Map.Entry<String, int[]> entry : index.folders.entrySet()) {
+                writer.write(LINE_FOLDER + "\t" + entry.getKey());
+                for (int jarIndex : entry.getValue()) {
+                    writer.write("\t" + jarIndex);
+                }
+                writer.write('\n');
+            }
+        }
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
@@ -17,26 +17,173 @@
 
 package org.jkiss.dbeaver.registry.driver;
 
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.connection.DBPDriverLibrary;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipFile;
 
 /**
- * DriverClassLoader
+ * DriverClassLoader.
+ * If driver libraries are indexed then classes and resources are looked up only in jars
+ * which contain their package. Such jars are opened on first use.
  */
 public class DriverClassLoader extends URLClassLoader
 {
+    private static final Log log = Log.getLog(DriverClassLoader.class);
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
     private final DriverDescriptor driver;
+    @Nullable
+    private final DriverClassIndex classIndex;
+    private final Map<Path, JarFile> openJars = new ConcurrentHashMap<>();
 
     public DriverClassLoader(DriverDescriptor driver, URL[] urls, ClassLoader parent)
+    {
+        this(driver, urls, null, parent);
+    }
+
+    DriverClassLoader(DriverDescriptor driver, URL[] urls, @Nullable DriverClassIndex classIndex, ClassLoader parent)
     {
         super(urls, parent);
         this.driver = driver;
+        this.classIndex = classIndex;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException
+    {
+        if (classIndex == null) {
+            return super.findClass(name);
+        }
+        String resourceName = name.replace('.', '/') + ".class";
+        for (Path jarPath : classIndex.getJars(resourceName)) {
+            JarFile jarFile = getJarFile(jarPath);
+            JarEntry entry = jarFile == null ? null : jarFile.getJarEntry(resourceName);
+            if (entry != null) {
+                try {
+                    return defineClass(name, jarPath, jarFile, entry);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+        // Index covers all driver libraries (libraries with manifest class path are not indexed)
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    public URL findResource(String name)
+    {
+        if (classIndex == null) {
+            return super.findResource(name);
+        }
+        List<URL> resources = findIndexedResources(name, true);
+        return resources.isEmpty() ? null : resources.get(0);
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) throws IOException
+    {
+        if (classIndex == null) {
+            return super.findResources(name);
+        }
+        return Collections.enumeration(findIndexedResources(name, false));
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        for (JarFile jarFile : openJars.values()) {
+            jarFile.close();
+        }
+        openJars.clear();
+        super.close();
+    }
+
+    private List<URL> findIndexedResources(String name, boolean firstOnly)
+    {
+        List<URL> resources = new ArrayList<>();
+        for (Path jarPath : classIndex.getJars(name)) {
+            JarFile jarFile = getJarFile(jarPath);
+            if (jarFile != null && jarFile.getJarEntry(name) != null) {
+                try {
+                    resources.add(new URL("jar:" + jarPath.toUri().toURL() + "!/" + name));
+                } catch (MalformedURLException e) {
+                    log.debug(e);
+                    continue;
+                }
+                if (firstOnly) {
+                    break;
+                }
+            }
+        }
+        return resources;
+    }
+
+    @Nullable
+    private JarFile getJarFile(Path jarPath)
+    {
+        JarFile jarFile = openJars.get(jarPath);
+        if (jarFile == null) {
+            synchronized (openJars) {
+                jarFile = openJars.get(jarPath);
+                if (jarFile == null) {
+                    try {
+                        jarFile = new JarFile(jarPath.toFile(), true, ZipFile.OPEN_READ, JarFile.runtimeVersion());
+                    } catch (IOException e) {
+                        log.debug("Error opening driver library " + jarPath + ": " + e.getMessage());
+                        return null;
+                    }
+                    openJars.put(jarPath, jarFile);
+                }
+            }
+        }
+        return jarFile;
+    }
+
+    private Class<?> defineClass(String name, Path jarPath, JarFile jarFile, JarEntry entry) throws IOException
+    {
+        URL jarURL = jarPath.toUri().toURL();
+        int divPos = name.lastIndexOf('.');
+        if (divPos > 0) {
+            String packageName = name.substring(0, divPos);
+            if (getDefinedPackage(packageName) == null) {
+                try {
+                    Manifest manifest = jarFile.getManifest();
+                    if (manifest != null) {
+                        definePackage(packageName, manifest, jarURL);
+                    } else {
+                        definePackage(packageName, null, null, null, null, null, null, null);
+                    }
+                } catch (IllegalArgumentException e) {
+                    // Package was defined by another thread
+                }
+            }
+        }
+        byte[] classBytes;
+        try (InputStream classStream = jarFile.getInputStream(entry)) {
+            classBytes = classStream.readAllBytes();
+        }
+        // Code signers are available only after the entry is read
+        return defineClass(name, classBytes, 0, classBytes.length, new CodeSource(jarURL, entry.getCodeSigners()));
     }
 
     @Override
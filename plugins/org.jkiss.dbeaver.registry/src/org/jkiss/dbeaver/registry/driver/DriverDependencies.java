@@ -16,10 +16,14 @@
  */
 package org.jkiss.dbeaver.registry.driver;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.connection.DBPDriverDependencies;
 import org.jkiss.dbeaver.model.connection.DBPDriverLibrary;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 
 import java.io.IOException;
@@ -32,6 +36,8 @@ public class DriverDependencies implements DBPDriverDependencies
 {
     private static final Log log = Log.getLog(DriverDependencies.class);
 
+    private static final int MAX_RESOLVE_WORKERS = 4;
+
     private final List<DBPDriverLibrary> rootLibraries;
     private final List<DependencyNode> rootNodes = new ArrayList<>();
     private final List<DependencyNode> libraryList = new ArrayList<>();
@@ -46,6 +52,10 @@ public class DriverDependencies implements DBPDriverDependencies
         {
             rootNodes.clear();
 
+            // Load artifacts metadata concurrently. Dependency tree is built from loaded dependency lists below,
+            // in the same order as before.
+            Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> loadedDependencies = loadDependencies(monitor);
+
             final Map<String, DependencyNode> libMap = new LinkedHashMap<>();
             for (DBPDriverLibrary library : rootLibraries) {
                 DependencyNode node = new DependencyNode(null, library);
@@ -54,7 +64,7 @@ public class DriverDependencies implements DBPDriverDependencies
                     final Map<String, DependencyNode> localLibMap = new LinkedHashMap<>();
                     localLibMap.put(node.library.getId(), node);
 
-                    resolveDependencies(monitor, node, localLibMap);
+                    resolveDependencies(monitor, node, localLibMap, loadedDependencies);
 
                     rootNodes.add(node);
                     libMap.putAll(localLibMap);
@@ -103,8 +113,16 @@ public class DriverDependencies implements DBPDriverDependencies
         }
     }
 
-    private void resolveDependencies(DBRProgressMonitor monitor, DependencyNode ownerNode, Map<String, DependencyNode> libMap) throws IOException {
-        Collection<? extends DBPDriverLibrary> dependencies = ownerNode.library.getDependencies(monitor);
+    private void resolveDependencies(
+        DBRProgressMonitor monitor,
+        DependencyNode ownerNode,
+        Map<String, DependencyNode> libMap,
+        Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> loadedDependencies
+    ) throws IOException {
+        Collection<? extends DBPDriverLibrary> dependencies = loadedDependencies.get(ownerNode.library);
+        if (dependencies == null) {
+            dependencies = ownerNode.library.getDependencies(monitor);
+        }
         if (dependencies != null && !dependencies.isEmpty()) {
             for (DBPDriverLibrary dep : dependencies) {
                 DependencyNode node = new DependencyNode(ownerNode, dep);
@@ -124,10 +142,80 @@ public class DriverDependencies implements DBPDriverDependencies
             }
             for (DependencyNode node : ownerNode.dependencies) {
                 if (!node.duplicate) {
-                    resolveDependencies(monitor, node, libMap);
+                    resolveDependencies(monitor, node, libMap, loadedDependencies);
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks dependency graph of each root library level by level, dependencies of each level are loaded by several workers.
+     * Like the ordered resolve, only the first (nearest) library with the same id is expanded.
+     * Errors are ignored here, they are reported by the ordered resolve.
+     */
+    private Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> loadDependencies(DBRProgressMonitor monitor) {
+        Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> result = new IdentityHashMap<>();
+        for (DBPDriverLibrary rootLibrary : rootLibraries) {
+            Set<String> visited = new HashSet<>();
+            visited.add(rootLibrary.getId());
+            List<DBPDriverLibrary> level = List.of(rootLibrary);
+            while (!level.isEmpty() && !monitor.isCanceled()) {
+                loadLevelDependencies(monitor, level, result);
+                List<DBPDriverLibrary> nextLevel = new ArrayList<>();
+                synchronized (result) {
+                    for (DBPDriverLibrary library : level) {
+                        Collection<? extends DBPDriverLibrary> dependencies = result.get(library);
+                        if (dependencies != null) {
+                            for (DBPDriverLibrary dependency : dependencies) {
+                                if (visited.add(dependency.getId())) {
+                                    nextLevel.add(dependency);
+                                }
+                            }
+                        }
+                    }
                 }
+                level = nextLevel;
             }
         }
+        return result;
+    }
+
+    private void loadLevelDependencies(
+        DBRProgressMonitor monitor,
+        List<DBPDriverLibrary> libraries,
+        Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> result
+    ) {
+        Queue<DBPDriverLibrary> queue = new ArrayDeque<>(libraries);
+        int workerCount = Math.min(queue.size(), MAX_RESOLVE_WORKERS);
+        if (workerCount <= 1) {
+            new DependencyLoaderJob(monitor, queue, result).run(monitor);
+            return;
+        }
+        List<DependencyLoaderJob> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            DependencyLoaderJob worker = new DependencyLoaderJob(monitor, queue, result);
+            workers.add(worker);
+            worker.schedule();
+        }
+        try {
+            for (DependencyLoaderJob worker : workers) {
+                worker.join(0, monitor.getNestedMonitor());
+            }
+        } catch (OperationCanceledException e) {
+            // Workers check parent monitor and stop after the current library
+            for (DependencyLoaderJob worker : workers) {
+                worker.cancel();
+            }
+            for (DependencyLoaderJob worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException ex) {
+                    log.debug(ex);
+                }
+            }
+        } catch (InterruptedException e) {
+            log.debug(e);
+        }
     }
 
     @Override
@@ -149,4 +237,54 @@ public class DriverDependencies implements DBPDriverDependencies
             rootLibraries.remove(oldLibrary);
         }
     }
+
+    private static class DependencyLoaderJob extends AbstractJob {
+
+        private final DBRProgressMonitor parentMonitor;
+        private final Queue<DBPDriverLibrary> libraries;
+        private final Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> result;
+
+        DependencyLoaderJob(
+            DBRProgressMonitor parentMonitor,
+            Queue<DBPDriverLibrary> libraries,
+            Map<DBPDriverLibrary, Collection<? extends DBPDriverLibrary>> result
+        ) {
+            super("Resolve driver dependencies");
+            setSystem(true);
+            setUser(false);
+            this.parentMonitor = parentMonitor;
+            this.libraries = libraries;
+            this.result = result;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            for (;;) {
+                if (parentMonitor.isCanceled()) {
+                    break;
+                }
+                DBPDriverLibrary library;
+                synchronized (libraries) {
+                    library = libraries.poll();
+                }
+                if (library == null) {
+                    break;
+                }
+                synchronized (parentMonitor) {
+                    parentMonitor.subTask("Resolve " + library.getDisplayName());
+                }
+                try {
+                    Collection<? extends DBPDriverLibrary> dependencies = library.getDependencies(monitor);
+                    if (dependencies != null) {
+                        synchronized (result) {
+                            result.put(library, dependencies);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.debug("Error loading library '" + library.getDisplayName() + "' dependencies: " + e.getMessage());
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
 }
@@ -1292,9 +1292,12 @@ public class DriverDescriptor extends AbstractDescriptor implements DBPDriver {
                 baseClassLoader = DBPDataSource.class.getClassLoader();
             }
         }
+        // Index lets class loader open only jars with requested packages
+        DriverClassIndex classIndex = DriverClassIndex.getIndex(this, allLibraryFiles);
         this.classLoader = new DriverClassLoader(
             this,
             libraryURLs.toArray(new URL[0]),
+            classIndex,
             baseClassLoader);
     }
 
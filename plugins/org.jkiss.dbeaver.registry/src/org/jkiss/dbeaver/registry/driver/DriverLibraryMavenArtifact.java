@@ -314,6 +314,9 @@ public class DriverLibraryMavenArtifact extends DriverLibraryAbstract
         } finally {
             //monitor.done();
         }
+        if (MavenRegistry.isOffline()) {
+            throw new IOException("Maven artifact '" + path + "' can't be downloaded in offline mode");
+        }
         super.downloadLibraryFile(monitor, forceUpdate, taskName);
     }
 
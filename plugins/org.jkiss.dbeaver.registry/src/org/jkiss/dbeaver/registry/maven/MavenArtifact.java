@@ -31,9 +31,12 @@ import org.jkiss.utils.xml.SAXReader;
 import org.jkiss.utils.xml.XMLException;
 import org.xml.sax.Attributes;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -94,7 +97,7 @@ public class MavenArtifact implements IMavenIdentifier
         loadMetadata(monitor, null);
     }
 
-    public void loadMetadata(DBRProgressMonitor monitor, String version) throws IOException {
+    public synchronized void loadMetadata(DBRProgressMonitor monitor, String version) throws IOException {
         latestVersion = null;
         releaseVersion = null;
         versions.clear();
@@ -108,8 +111,34 @@ public class MavenArtifact implements IMavenIdentifier
         metadataPath += MAVEN_METADATA_XML;
         monitor.subTask("Load metadata " + this + "");
 
+        // Metadata of remote repositories is saved for offline resolve
+        Path cachedMetadata = repository.getType() == MavenRepository.RepositoryType.LOCAL ?
+            null : repository.getLocalCacheDir().resolve(
+                groupId + "/" + artifactId + (version == null ? "" : "-" + version) + "-" + MAVEN_METADATA_XML);
+        if (cachedMetadata != null && MavenRegistry.isOffline()) {
+            monitor.worked(1);
+            if (!Files.exists(cachedMetadata)) {
+                // Do not mark metadata as loaded, it will be loaded when offline mode is turned off
+                log.debug("Offline mode: no cached metadata of artifact " + this);
+                return;
+            }
+            try (InputStream mdStream = Files.newInputStream(cachedMetadata)) {
+                parseMetadata(mdStream);
+            } catch (XMLException e) {
+                log.warn("Error parsing cached artifact metadata", e);
+            } finally {
+                removeIgnoredVersions();
+            }
+            metadataLoaded = true;
+            return;
+        }
+
         try (InputStream mdStream = WebUtils.openConnection(metadataPath, getRepository().getAuthInfo(), null).getInputStream()) {
-            parseMetadata(mdStream);
+            byte[] metadata = mdStream.readAllBytes();
+            parseMetadata(new ByteArrayInputStream(metadata));
+            if (cachedMetadata != null) {
+                saveCachedMetadata(cachedMetadata, metadata);
+            }
         } catch (XMLException e) {
             log.warn("Error parsing artifact metadata", e);
         } catch (IOException e) {
@@ -126,6 +155,15 @@ public class MavenArtifact implements IMavenIdentifier
         metadataLoaded = true;
     }
 
+    private void saveCachedMetadata(@NotNull Path cachedMetadata, @NotNull byte[] metadata) {
+        try {
+            Files.createDirectories(cachedMetadata.getParent());
+            Files.write(cachedMetadata, metadata);
+        } catch (IOException e) {
+            log.debug("Error saving artifact metadata cache: " + e.getMessage());
+        }
+    }
+
     private void removeIgnoredVersions() {
         versions.removeIf(version ->
             MavenRegistry.getInstance().isVersionIgnored(groupId + ":" + artifactId + ":" + version));
@@ -253,7 +291,7 @@ public class MavenArtifact implements IMavenIdentifier
     }
 
     @Nullable
-    public Collection<String> getAvailableVersions(DBRProgressMonitor monitor, String versionSpec) throws IOException {
+    public synchronized Collection<String> getAvailableVersions(DBRProgressMonitor monitor, String versionSpec) throws IOException {
         if (CommonUtils.isEmpty(versions) && !metadataLoaded) {
             loadMetadata(monitor, null);
         }
@@ -348,7 +386,7 @@ public class MavenArtifact implements IMavenIdentifier
         return version;
     }
 
-    public MavenArtifactVersion resolveVersion(
+    public synchronized MavenArtifactVersion resolveVersion(
         @NotNull DBRProgressMonitor monitor,
         @NotNull String versionRef,
         boolean resolveOptionalDependencies) throws IOException
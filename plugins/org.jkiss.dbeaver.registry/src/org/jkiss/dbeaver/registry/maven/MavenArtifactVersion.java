@@ -256,6 +256,9 @@ public class MavenArtifactVersion implements IMavenIdentifier {
         if (artifact.getRepository().getType() == MavenRepository.RepositoryType.LOCAL) {
             return;
         }
+        if (MavenRegistry.isOffline()) {
+            throw new IOException("POM of artifact " + this + " is not cached (offline mode)");
+        }
         String pomURL = getRemotePOMLocation();
         try (InputStream is = WebUtils.openConnection(pomURL, artifact.getRepository().getAuthInfo(), null).getInputStream()) {
             File folder = localPOM.getParentFile();
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.Platform;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.connection.DBPAuthInfo;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.registry.RegistryConstants;
@@ -38,7 +39,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MavenRegistry {
     private static final Log log = Log.getLog(MavenRegistry.class);
@@ -46,6 +50,8 @@ public class MavenRegistry {
     public static final String MAVEN_LOCAL_REPO_ID = "local";
     public static final String MAVEN_LOCAL_REPO_NAME = "Local Repository";
     public static final String MAVEN_LOCAL_REPO_FOLDER = "maven-local";
+    public static final String MAVEN_MIRROR_REPO_ID = "mirror";
+    public static final String MAVEN_MIRROR_REPO_NAME = "Local Mirror";
     public static final String MAVEN_REPOSITORIES_CONFIG = "maven-repositories.xml";
 
     private static MavenRegistry instance = null;
@@ -61,8 +67,10 @@ public class MavenRegistry {
 
     private final List<MavenRepository> repositories = new ArrayList<>();
     private MavenRepository localRepository;
+    @Nullable
+    private MavenRepository mirrorRepository;
     // Cache for not found artifact ids. Avoid multiple remote metadata reading
-    private final Set<String> notFoundArtifacts = new HashSet<>();
+    private final Set<String> notFoundArtifacts = ConcurrentHashMap.newKeySet();
 
     private static final PasswordEncrypter ENCRYPTOR = new SimpleStringEncrypter();
 
@@ -109,6 +117,29 @@ public class MavenRegistry {
             MAVEN_LOCAL_REPO_NAME,
             localRepoURL,
             MavenRepository.RepositoryType.LOCAL);
+
+        // Local mirror (e.g. pre-populated repository on CI images)
+        String mirrorPath = DBWorkbench.getPlatform().getPreferenceStore().getString(ModelPreferences.UI_MAVEN_LOCAL_MIRROR);
+        if (!CommonUtils.isEmpty(mirrorPath)) {
+            Path mirrorFolder = Path.of(mirrorPath);
+            if (Files.isDirectory(mirrorFolder)) {
+                mirrorRepository = new MavenRepository(
+                    MAVEN_MIRROR_REPO_ID,
+                    MAVEN_MIRROR_REPO_NAME,
+                    mirrorFolder.toUri().toString(),
+                    MavenRepository.RepositoryType.LOCAL);
+            } else {
+                log.warn("Maven mirror folder '" + mirrorPath + "' doesn't exist");
+            }
+        }
+    }
+
+    /**
+     * In offline mode remote repositories are not accessed.
+     * Artifacts are resolved from the local mirror and previously downloaded files.
+     */
+    public static boolean isOffline() {
+        return DBWorkbench.getPlatform().getPreferenceStore().getBoolean(ModelPreferences.UI_MAVEN_OFFLINE);
     }
 
     public void setCustomRepositories(List<MavenRepository> customRepositories) {
@@ -187,8 +218,10 @@ public class MavenRegistry {
             return artifact;
         }
 
-        // Not found
-        notFoundArtifacts.add(fullId);
+        // Not found. In offline mode artifact may be found later, when remote repositories are available.
+        if (!isOffline()) {
+            notFoundArtifacts.add(fullId);
+        }
         return null;
     }
 
@@ -199,11 +232,20 @@ public class MavenRegistry {
             repository.resetArtifactCache(artifactReference);
         }
         localRepository.resetArtifactCache(artifactReference);
+        if (mirrorRepository != null) {
+            mirrorRepository.resetArtifactCache(artifactReference);
+        }
     }
 
     @Nullable
     private MavenArtifactVersion findInRepositories(@NotNull DBRProgressMonitor monitor, MavenArtifactVersion owner, @NotNull MavenArtifactReference ref) {
         MavenRepository currentRepository = owner == null ? null : owner.getArtifact().getRepository();
+        if (mirrorRepository != null && mirrorRepository != currentRepository) {
+            MavenArtifactVersion artifact = mirrorRepository.findArtifact(monitor, ref);
+            if (artifact != null) {
+                return artifact;
+            }
+        }
         if (currentRepository != null) {
             MavenArtifactVersion artifact = currentRepository.findArtifact(monitor, ref);
             if (artifact != null) {
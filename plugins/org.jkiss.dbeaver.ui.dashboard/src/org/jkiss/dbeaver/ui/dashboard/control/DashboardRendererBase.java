@@ -20,16 +20,14 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.title.LegendTitle;
-import org.jfree.data.time.FixedMillisecond;
-import org.jfree.data.time.TimeSeries;
-import org.jfree.data.time.TimeSeriesCollection;
-import org.jfree.data.time.TimeSeriesDataItem;
 import org.jfree.ui.RectangleEdge;
 import org.jkiss.dbeaver.ui.AWTUtils;
 import org.jkiss.dbeaver.ui.UIStyles;
 import org.jkiss.dbeaver.ui.dashboard.model.DashboardContainer;
 import org.jkiss.dbeaver.ui.dashboard.model.DashboardItemViewConfiguration;
+import org.jkiss.dbeaver.ui.dashboard.histogram.DashboardTimeseriesDataset;
 import org.jkiss.dbeaver.ui.dashboard.model.DashboardViewContainer;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardTimeseries;
 
 import java.awt.*;
 
@@ -41,17 +39,17 @@ public abstract class DashboardRendererBase implements DashboardRenderer {
     protected static final Font DEFAULT_LEGEND_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 9);
     protected static final Font DEFAULT_TICK_LABEL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 8);
 
-    protected void generateSampleSeries(DashboardContainer container, TimeSeriesCollection dataset) {
-        TimeSeries seriesSin = new TimeSeries("Sin");
+    protected void generateSampleSeries(DashboardContainer container, DashboardTimeseriesDataset dataset) {
+        DashboardTimeseries seriesSin = new DashboardTimeseries("Sin", container.getDashboardMaxItems(), container.getDashboardMaxAge());
         long startTime = System.currentTimeMillis() - 1000 * 60 * 60 * 2;
         for (int i = 0; i < 100; i++) {
-            seriesSin.add(new TimeSeriesDataItem(new FixedMillisecond(startTime + i * 60 * 1000), Math.sin(0.1 * i) * 100));
+            seriesSin.addOrUpdate(startTime + i * 60 * 1000, Math.sin(0.1 * i) * 100);
         }
         dataset.addSeries(seriesSin);
 
-        TimeSeries seriesCos = new TimeSeries("Cos");
+        DashboardTimeseries seriesCos = new DashboardTimeseries("Cos", container.getDashboardMaxItems(), container.getDashboardMaxAge());
         for (int i = 0; i < 100; i++) {
-            seriesCos.add(new TimeSeriesDataItem(new FixedMillisecond(startTime + i * 60 * 1000), Math.cos(0.1 * i) * 100));
+            seriesCos.addOrUpdate(startTime + i * 60 * 1000, Math.cos(0.1 * i) * 100);
         }
         dataset.addSeries(seriesCos);
 
@@ -36,6 +36,7 @@ import org.jkiss.dbeaver.ui.dashboard.control.DashboardRendererBase;
 import org.jkiss.dbeaver.ui.dashboard.model.*;
 import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDataset;
 import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDatasetRow;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardTimeseries;
 
 import java.awt.*;
 import java.text.SimpleDateFormat;
@@ -53,7 +54,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
     @Override
     public DashboardChartComposite createDashboard(Composite composite, DashboardContainer container, DashboardViewContainer viewContainer, Point preferredSize) {
 
-        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        DashboardTimeseriesDataset dataset = new DashboardTimeseriesDataset();
         //generateSampleSeries(container, dataset);
 
         DashboardItemViewConfiguration viewConfig = viewContainer.getViewConfiguration().getDashboardConfig(container.getDashboardId());
@@ -195,7 +196,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
         }
         JFreeChart chart = chartComposite.getChart();
         XYPlot plot = (XYPlot) chart.getPlot();
-        TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
+        DashboardTimeseriesDataset chartDataset = (DashboardTimeseriesDataset) plot.getDataset();
 
         if (container.getDashboardFetchType() == DashboardFetchType.stats) {
             // Clean previous data before stats update
@@ -216,11 +217,9 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
         for (int i = 0; i < srcSeries.length; i++) {
             String seriesName = srcSeries[i];
 
-            TimeSeries series = chartDataset.getSeries(seriesName);
+            DashboardTimeseries series = chartDataset.getSeries(seriesName);
             if (series == null) {
-                series = new TimeSeries(seriesName);
-                series.setMaximumItemCount(container.getDashboardMaxItems());
-                series.setMaximumItemAge(container.getDashboardMaxAge());
+                series = new DashboardTimeseries(seriesName, container.getDashboardMaxItems(), container.getDashboardMaxAge());
                 chartDataset.addSeries(series);
                 plot.getRenderer().setSeriesStroke(chartDataset.getSeriesCount() - 1, plot.getRenderer().getBaseStroke());
             }
@@ -244,7 +243,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
                         }
                         Object value = row.getValues()[i];
                         if (value instanceof Number) {
-                            series.addOrUpdate(makeDataItem(container, row), (Number) value);
+                            series.addOrUpdate(getPointTimestamp(container, row), ((Number) value).doubleValue());
                         }
                     }
                     break;
@@ -265,7 +264,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
                                     deltaValue = Math.round(deltaValue);
                                 }
                                 series.addOrUpdate(
-                                    makeDataItem(container, row),
+                                    getPointTimestamp(container, row),
                                     deltaValue);
                             }
                         }
@@ -275,11 +274,17 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
             }
         }
 
+        chartDataset.notifyDataChanged();
+
         if (!rows.isEmpty()) {
             chartComposite.setData("last_row", rows.get(rows.size() - 1));
         }
     }
 
+    private long getPointTimestamp(DashboardContainer container, DashboardDatasetRow row) {
+        return makeDataItem(container, row).getFirstMillisecond();
+    }
+
     private RegularTimePeriod makeDataItem(DashboardContainer container, DashboardDatasetRow row) {
         switch (container.getDashboardInterval()) {
             case second: return new FixedMillisecond(row.getTimestamp().getTime());
@@ -298,7 +303,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
     public void resetDashboardData(DashboardContainer container, Date lastUpdateTime) {
         XYPlot plot = getDashboardPlot(container);
         if (plot != null) {
-            TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
+            DashboardTimeseriesDataset chartDataset = (DashboardTimeseriesDataset) plot.getDataset();
             chartDataset.removeAllSeries();
         }
     }
@@ -319,12 +324,11 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
 
                 chartComposite.getChart().getLegend().setVisible(dashboardConfig.isLegendVisible());
 
-                TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
-                for (int i = 0; i < chartDataset.getSeriesCount(); i++) {
-                    TimeSeries series = chartDataset.getSeries(i);
-                    series.setMaximumItemCount(dashboardConfig.getMaxItems());
-                    series.setMaximumItemAge(dashboardConfig.getMaxAge());
+                DashboardTimeseriesDataset chartDataset = (DashboardTimeseriesDataset) plot.getDataset();
+                for (DashboardTimeseries series : chartDataset.getSeries()) {
+                    series.setLimits(dashboardConfig.getMaxItems(), dashboardConfig.getMaxAge());
                 }
+                chartDataset.notifyDataChanged();
             }
         }
         dashboardItem.getParent().layout(true, true);
@@ -0,0 +1,98 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.histogram;
+
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardTimeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XY dataset backed by ring buffer time series.
+ * Data is read directly from primitive arrays, no per-point objects are created.
+ */
+public class DashboardTimeseriesDataset extends AbstractXYDataset {
+
+    private final List<DashboardTimeseries> seriesList = new ArrayList<>();
+
+    public DashboardTimeseries getSeries(String name) {
+        for (DashboardTimeseries series : seriesList) {
+            if (series.getName().equals(name)) {
+                return series;
+            }
+        }
+        return null;
+    }
+
+    public List<DashboardTimeseries> getSeries() {
+        return seriesList;
+    }
+
+    public void addSeries(DashboardTimeseries series) {
+        seriesList.add(series);
+        fireDatasetChanged();
+    }
+
+    public void removeAllSeries() {
+        seriesList.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Must be called after series data modification
+     */
+    public void notifyDataChanged() {
+        fireDatasetChanged();
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return seriesList.size();
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return seriesList.get(series).getName();
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return seriesList.get(series).getItemCount();
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return seriesList.get(series).getTimestamp(item);
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return seriesList.get(series).getTimestamp(item);
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return seriesList.get(series).getValue(item);
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return seriesList.get(series).getValue(item);
+    }
+
+}
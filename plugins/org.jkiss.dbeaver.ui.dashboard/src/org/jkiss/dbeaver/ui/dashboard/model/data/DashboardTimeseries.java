@@ -0,0 +1,206 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.model.data;
+
+/**
+ * Time series with constant memory footprint.
+ * Recent points are kept as is (raw tier). Points evicted from the raw tier are averaged into
+ * one-minute buckets and points evicted from the minute tier are averaged into one-hour buckets.
+ * All tiers are trimmed by the maximum age relatively to the most recent point.
+ * Total number of points in all tiers doesn't exceed the maximum item count: each downsampled tier
+ * takes up to a quarter of it.
+ * Points are ordered by timestamp in all tiers. Points older than the raw tier go to the downsampled tiers.
+ */
+public class DashboardTimeseries {
+
+    public static final long MINUTE_MS = 60 * 1000L;
+    public static final long HOUR_MS = 60 * MINUTE_MS;
+
+    private static final int MAX_MINUTE_ITEMS = 24 * 60;
+    private static final int MAX_HOUR_ITEMS = 31 * 24;
+
+    private final String name;
+    private final DashboardTimeseriesBuffer rawBuffer;
+    private final DashboardTimeseriesBuffer minuteBuffer;
+    private final DashboardTimeseriesBuffer hourBuffer;
+    private long maxAge;
+
+    public DashboardTimeseries(String name, int maxItems, long maxAge) {
+        this.name = name;
+        int minuteCapacity = getTierCapacity(maxItems, maxAge, MINUTE_MS, MAX_MINUTE_ITEMS);
+        int hourCapacity = getTierCapacity(maxItems, maxAge, HOUR_MS, MAX_HOUR_ITEMS);
+        this.rawBuffer = new DashboardTimeseriesBuffer(maxItems - minuteCapacity - hourCapacity);
+        this.minuteBuffer = new DashboardTimeseriesBuffer(minuteCapacity);
+        this.hourBuffer = new DashboardTimeseriesBuffer(hourCapacity);
+        this.maxAge = maxAge;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Changes tier capacities. Points which don't fit into a tier anymore are moved into the coarser tier.
+     */
+    public void setLimits(int maxItems, long maxAge) {
+        this.maxAge = maxAge;
+        int minuteCapacity = getTierCapacity(maxItems, maxAge, MINUTE_MS, MAX_MINUTE_ITEMS);
+        int hourCapacity = getTierCapacity(maxItems, maxAge, HOUR_MS, MAX_HOUR_ITEMS);
+        int rawCapacity = Math.max(maxItems - minuteCapacity - hourCapacity, 1);
+        // Shrink from the coarsest tier, so it has room for the points moved from the finer one
+        hourBuffer.setCapacity(hourCapacity);
+        while (minuteBuffer.getItemCount() > minuteCapacity) {
+            evictMinutePoint();
+        }
+        minuteBuffer.setCapacity(minuteCapacity);
+        while (rawBuffer.getItemCount() > rawCapacity) {
+            evictRawPoint();
+        }
+        rawBuffer.setCapacity(rawCapacity);
+        removeAgedItems();
+    }
+
+    public void addOrUpdate(long timestamp, double value) {
+        for (;;) {
+            if (timestamp < getDownsampledLastTimestamp() ||
+                (rawBuffer.isFull() && timestamp < rawBuffer.getFirstTimestamp()))
+            {
+                // Point is older than raw points
+                addToMinutes(timestamp, value, 1);
+                break;
+            }
+            if (!rawBuffer.add(timestamp, value)) {
+                break;
+            }
+            evictRawPoint();
+        }
+        removeAgedItems();
+    }
+
+    public void clear() {
+        rawBuffer.clear();
+        minuteBuffer.clear();
+        hourBuffer.clear();
+    }
+
+    /**
+     * Total number of points in all tiers
+     */
+    public int getItemCount() {
+        return hourBuffer.getItemCount() + minuteBuffer.getItemCount() + rawBuffer.getItemCount();
+    }
+
+    /**
+     * Returns timestamp of the point. Points are ordered from the oldest (hour tier) to the most recent (raw tier).
+     */
+    public long getTimestamp(int index) {
+        int hourCount = hourBuffer.getItemCount();
+        if (index < hourCount) {
+            return hourBuffer.getTimestamp(index);
+        }
+        index -= hourCount;
+        int minuteCount = minuteBuffer.getItemCount();
+        if (index < minuteCount) {
+            return minuteBuffer.getTimestamp(index);
+        }
+        return rawBuffer.getTimestamp(index - minuteCount);
+    }
+
+    public double getValue(int index) {
+        int hourCount = hourBuffer.getItemCount();
+        if (index < hourCount) {
+            return hourBuffer.getValue(index);
+        }
+        index -= hourCount;
+        int minuteCount = minuteBuffer.getItemCount();
+        if (index < minuteCount) {
+            return minuteBuffer.getValue(index);
+        }
+        return rawBuffer.getValue(index - minuteCount);
+    }
+
+    private long getDownsampledLastTimestamp() {
+        if (!minuteBuffer.isEmpty()) {
+            return minuteBuffer.getLastTimestamp();
+        } else if (!hourBuffer.isEmpty()) {
+            return hourBuffer.getLastTimestamp();
+        }
+        return Long.MIN_VALUE;
+    }
+
+    private void evictRawPoint() {
+        long timestamp = rawBuffer.getFirstTimestamp();
+        double value = rawBuffer.getValue(0);
+        rawBuffer.removeFirst();
+        addToMinutes(timestamp, value, 1);
+    }
+
+    private void evictMinutePoint() {
+        long timestamp = minuteBuffer.getFirstTimestamp();
+        double value = minuteBuffer.getValue(0);
+        int weight = minuteBuffer.getWeight(0);
+        minuteBuffer.removeFirst();
+        addToHours(timestamp, value, weight);
+    }
+
+    private void addToMinutes(long timestamp, double value, int weight) {
+        long bucket = timestamp - Math.floorMod(timestamp, MINUTE_MS);
+        for (;;) {
+            if ((!hourBuffer.isEmpty() && bucket < hourBuffer.getLastTimestamp()) ||
+                (minuteBuffer.isFull() && bucket < minuteBuffer.getFirstTimestamp()))
+            {
+                // Bucket is older than minute buckets
+                addToHours(timestamp, value, weight);
+                return;
+            }
+            if (!minuteBuffer.accumulate(bucket, value, weight)) {
+                return;
+            }
+            evictMinutePoint();
+        }
+    }
+
+    private void addToHours(long timestamp, double value, int weight) {
+        long bucket = timestamp - Math.floorMod(timestamp, HOUR_MS);
+        while (hourBuffer.accumulate(bucket, value, weight)) {
+            if (bucket < hourBuffer.getFirstTimestamp()) {
+                // Older than all kept points
+                return;
+            }
+            hourBuffer.removeFirst();
+        }
+    }
+
+    private void removeAgedItems() {
+        if (maxAge <= 0 || rawBuffer.isEmpty()) {
+            return;
+        }
+        long minTimestamp = rawBuffer.getLastTimestamp() - maxAge;
+        hourBuffer.removeOlderThan(minTimestamp);
+        minuteBuffer.removeOlderThan(minTimestamp);
+        rawBuffer.removeOlderThan(minTimestamp);
+    }
+
+    private static int getTierCapacity(int maxItems, long maxAge, long bucketSize, int maxTierItems) {
+        int capacity = Math.min(maxTierItems, maxItems / 4);
+        if (maxAge > 0) {
+            capacity = (int) Math.min(capacity, maxAge / bucketSize + 1);
+        }
+        return Math.max(capacity, 1);
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.model.data;
+
+/**
+ * Fixed-capacity ring buffer of time-series points.
+ * Points are kept in primitive arrays ordered by timestamp. When the buffer is full the oldest point is evicted.
+ * Each point has a weight (number of merged source points) which is used for downsampling.
+ */
+public class DashboardTimeseriesBuffer {
+
+    private long[] timestamps;
+    private double[] values;
+    private int[] weights;
+    private int head;
+    private int size;
+
+    public DashboardTimeseriesBuffer(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    private void allocate(int capacity) {
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.weights = new int[capacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    public int getItemCount() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == timestamps.length;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[physicalIndex(index)];
+    }
+
+    public double getValue(int index) {
+        return values[physicalIndex(index)];
+    }
+
+    public int getWeight(int index) {
+        return weights[physicalIndex(index)];
+    }
+
+    public long getFirstTimestamp() {
+        return timestamps[head];
+    }
+
+    public long getLastTimestamp() {
+        return timestamps[physicalIndex(size - 1)];
+    }
+
+    /**
+     * Adds new point. Points are kept ordered by timestamp, so older points are inserted in the middle.
+     * If point with the same timestamp already exists then its value is replaced.
+     *
+     * @return true if the oldest point has to be evicted before the new one can be added.
+     * In that case nothing is added and caller must call {@link #removeFirst()} and repeat.
+     */
+    public boolean add(long timestamp, double value) {
+        int pos = search(timestamp);
+        if (pos >= 0) {
+            int index = physicalIndex(pos);
+            values[index] = value;
+            weights[index] = 1;
+            return false;
+        }
+        if (isFull()) {
+            return true;
+        }
+        insert(-pos - 1, timestamp, value, 1);
+        return false;
+    }
+
+    /**
+     * Merges point into the bucket with the same timestamp (weighted average), otherwise inserts new bucket.
+     *
+     * @return true if buffer is full and the oldest point has to be evicted first
+     */
+    public boolean accumulate(long timestamp, double value, int weight) {
+        int pos = search(timestamp);
+        if (pos >= 0) {
+            int index = physicalIndex(pos);
+            int totalWeight = weights[index] + weight;
+            values[index] = (values[index] * weights[index] + value * weight) / totalWeight;
+            weights[index] = totalWeight;
+            return false;
+        }
+        if (isFull()) {
+            return true;
+        }
+        insert(-pos - 1, timestamp, value, weight);
+        return false;
+    }
+
+    public void removeFirst() {
+        if (size == 0) {
+            return;
+        }
+        head = (head + 1) % timestamps.length;
+        size--;
+    }
+
+    /**
+     * Removes all points with timestamp less than specified
+     */
+    public void removeOlderThan(long timestamp) {
+        while (size > 0 && timestamps[head] < timestamp) {
+            removeFirst();
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Changes buffer capacity. The most recent points are preserved.
+     */
+    public void setCapacity(int capacity) {
+        capacity = Math.max(capacity, 1);
+        if (capacity == timestamps.length) {
+            return;
+        }
+        int keep = Math.min(size, capacity);
+        long[] newTimestamps = new long[capacity];
+        double[] newValues = new double[capacity];
+        int[] newWeights = new int[capacity];
+        for (int i = 0; i < keep; i++) {
+            int index = physicalIndex(size - keep + i);
+            newTimestamps[i] = timestamps[index];
+            newValues[i] = values[index];
+            newWeights[i] = weights[index];
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        weights = newWeights;
+        head = 0;
+        size = keep;
+    }
+
+    /**
+     * Binary search of the point with specified timestamp.
+     * @return logical index or -1
+     */
+    public int indexOf(long timestamp) {
+        int pos = search(timestamp);
+        return pos >= 0 ? pos : -1;
+    }
+
+    /**
+     * @return logical index of the point or (-(insertion point) - 1) if there is no such point
+     */
+    private int search(long timestamp) {
+        if (size == 0 || timestamp > getLastTimestamp()) {
+            // New points are usually the most recent
+            return -size - 1;
+        }
+        int low = 0, high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midTimestamp = getTimestamp(mid);
+            if (midTimestamp < timestamp) {
+                low = mid + 1;
+            } else if (midTimestamp > timestamp) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    private void insert(int pos, long timestamp, double value, int weight) {
+        for (int i = size; i > pos; i--) {
+            int to = physicalIndex(i), from = physicalIndex(i - 1);
+            timestamps[to] = timestamps[from];
+            values[to] = values[from];
+            weights[to] = weights[from];
+        }
+        int index = physicalIndex(pos);
+        timestamps[index] = timestamp;
+        values[index] = value;
+        weights[index] = weight;
+        size++;
+    }
+
+    private int physicalIndex(int index) {
+        int pos = head + index;
+        return pos < timestamps.length ? pos : pos - timestamps.length;
+    }
+
+}
@@ -32,6 +32,9 @@ public class DashboardUpdateJob extends AbstractJob {
 
     private static final int JOB_DELAY = 1000;
 
+    // Updater keeps query results between runs
+    private final DashboardUpdater updater = new DashboardUpdater();
+
     private DashboardUpdateJob() {
         super("Dashboard update");
     }
@@ -40,7 +43,7 @@ public class DashboardUpdateJob extends AbstractJob {
     protected IStatus run(DBRProgressMonitor monitor) {
 
         try {
-            new DashboardUpdater().updateDashboards(monitor);
+            updater.updateDashboards(monitor);
         } catch (Exception e) {
             log.error("Error running dashboard updater", e);
         }
@@ -22,7 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
-import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.DBPErrorAssistant;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
@@ -40,7 +40,13 @@ import java.util.*;
 public class DashboardUpdater {
 
     private static final Log log = Log.getLog(DashboardUpdater.class);
-    private Map<DBPDataSourceContainer, List<MapQueryInfo>> mapQueries = new HashMap<>();
+    // Cached query results are dropped after this period even if nobody asks for them
+    private static final long QUERY_RESULT_MAX_AGE = 60 * 1000;
+
+    private final Map<DBPDataSourceContainer, List<MapQueryInfo>> mapQueries = new HashMap<>();
+    // Results of dashboard queries by execution context and query text.
+    // Dashboards with the same query share the result while it is fresh enough.
+    private final Map<DBCExecutionContext, Map<String, QueryResult>> queryResults = new IdentityHashMap<>();
 
     private static class MapQueryInfo {
         private final DashboardContainer dashboard;
@@ -56,6 +62,25 @@ public class DashboardUpdater {
         }
     }
 
+    private static class QueryResult {
+        private final long timestamp;
+        private final int maxItems;
+        private final DashboardDataset dataset;
+
+        QueryResult(long timestamp, int maxItems, DashboardDataset dataset) {
+            this.timestamp = timestamp;
+            this.maxItems = maxItems;
+            this.dataset = dataset;
+        }
+
+        boolean isSuitableFor(DashboardContainer dashboard, long currentTime) {
+            // Result is reused while it is younger than the half of the dashboard update period.
+            // Dataset must contain all rows the dashboard needs.
+            return currentTime - timestamp < dashboard.getUpdatePeriod() / 2 &&
+                (maxItems >= dashboard.getDashboardMaxItems() || dataset.getRows().size() < maxItems);
+        }
+    }
+
     public DashboardUpdater() {
     }
 
@@ -69,6 +94,9 @@ public class DashboardUpdater {
     private void updateDashboards(DBRProgressMonitor monitor, List<DashboardContainer> dashboards) {
         monitor.beginTask("Update dashboards", dashboards.size());
 
+        mapQueries.clear();
+        purgeQueryResults();
+
         // Get all map queries used by dashboards
         for (DashboardContainer dashboard : dashboards) {
             DashboardMapQuery mapQuery = dashboard.getMapQuery();
@@ -120,32 +148,82 @@ public class DashboardUpdater {
             }
         }
 
+        // Group dashboards by execution context. Dashboards of the same context are read in one session.
+        Map<DBCExecutionContext, List<DashboardContainer>> contextDashboards = new LinkedHashMap<>();
         for (DashboardContainer dashboard : dashboards) {
             if (!dashboard.isAutoUpdateEnabled()) {
                 continue;
             }
-            DBPDataSource dataSource = dashboard.getDataSourceContainer().getDataSource();
-            if (dataSource == null) {
+            if (dashboard.getMapQuery() != null) {
+                // Map data was read above
+                fetchDashboardMapData(monitor, dashboard);
+                monitor.worked(1);
                 continue;
             }
-            try {
-                DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
-                    try {
-                        updateDashboard(monitor, dashboard);
-                    } catch (Throwable e) {
-                        log.debug("Datasource '" + dashboard.getDataSourceContainer().getName() + "' dashboard query failed. Stopping update of dashboards for this datasource.");
-                        dashboard.disableAutoUpdate();
-                        throw new InvocationTargetException(e);
-                    }
-                });
-            } catch (DBException e) {
-                log.debug("Error reading dashboard '" + dashboard.getDashboardId() + "' data: " + GeneralUtils.getRootCause(e).getMessage());
+            DBCExecutionContext executionContext = dashboard.getGroup().getView().getExecutionContext();
+            if (executionContext == null || executionContext.getDataSource() == null) {
+                continue;
+            }
+            contextDashboards.computeIfAbsent(executionContext, c -> new ArrayList<>()).add(dashboard);
+        }
+
+        for (Map.Entry<DBCExecutionContext, List<DashboardContainer>> entry : contextDashboards.entrySet()) {
+            if (!entry.getKey().getDataSource().getContainer().isConnected() || DBWorkbench.getPlatform().isShuttingDown()) {
+                continue;
             }
-            monitor.worked(1);
+            updateDashboards(monitor, entry.getKey(), entry.getValue());
         }
         monitor.done();
     }
 
+    private void updateDashboards(DBRProgressMonitor monitor, DBCExecutionContext executionContext, List<DashboardContainer> dashboards) {
+        DBPDataSource dataSource = executionContext.getDataSource();
+        Set<DashboardContainer> updatedDashboards = new HashSet<>();
+        try {
+            DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
+                try (DBCSession session = executionContext.openSession(
+                    monitor, DBCExecutionPurpose.UTIL, "Read dashboards data")) {
+                    session.enableLogging(false);
+                    for (DashboardContainer dashboard : dashboards) {
+                        if (!dashboard.isAutoUpdateEnabled() || updatedDashboards.contains(dashboard)) {
+                            continue;
+                        }
+                        try {
+                            updateDashboard(session, dashboard);
+                        } catch (Throwable e) {
+                            log.debug("Datasource '" + dashboard.getDataSourceContainer().getName() + "' dashboard '" +
+                                dashboard.getDashboardId() + "' query failed. Stopping update of this dashboard.");
+                            dashboard.disableAutoUpdate();
+                            DBPErrorAssistant.ErrorType errorType = DBExecUtils.discoverErrorType(dataSource, e);
+                            if (errorType == DBPErrorAssistant.ErrorType.CONNECTION_LOST ||
+                                errorType == DBPErrorAssistant.ErrorType.TRANSACTION_ABORTED)
+                            {
+                                // Let the connection recover. Other dashboards will be read again.
+                                throw new InvocationTargetException(e);
+                            }
+                            log.debug("Error reading dashboard '" + dashboard.getDashboardId() + "' data: " + GeneralUtils.getRootCause(e).getMessage());
+                        }
+                        updatedDashboards.add(dashboard);
+                        monitor.worked(1);
+                    }
+                }
+            });
+        } catch (DBException e) {
+            log.debug("Error reading dashboards data for '" + dataSource.getContainer().getName() + "': " + GeneralUtils.getRootCause(e).getMessage());
+        }
+    }
+
+    private void purgeQueryResults() {
+        long currentTime = System.currentTimeMillis();
+        for (Iterator<Map<String, QueryResult>> iter = queryResults.values().iterator(); iter.hasNext(); ) {
+            Map<String, QueryResult> results = iter.next();
+            results.values().removeIf(r -> currentTime - r.timestamp > QUERY_RESULT_MAX_AGE);
+            if (results.isEmpty()) {
+                iter.remove();
+            }
+        }
+    }
+
     private void readMapQueryData(DBRProgressMonitor monitor, MapQueryInfo mqInfo) throws DBCException {
         DBCExecutionContext executionContext = mqInfo.viewContainer.getExecutionContext();
         if (executionContext == null) {
@@ -171,56 +249,37 @@ public class DashboardUpdater {
         }
     }
 
-    private void updateDashboard(DBRProgressMonitor monitor, DashboardContainer dashboard) throws DBCException {
-        if (!dashboard.getDataSourceContainer().isConnected() || DBWorkbench.getPlatform().isShuttingDown()) {
-            return;
-        }
-
-        if (dashboard.getMapQuery() != null) {
-            fetchDashboardMapData(monitor, dashboard);
-            return;
-        }
+    private void updateDashboard(DBCSession session, DashboardContainer dashboard) throws DBCException {
         List<? extends DashboardQuery> queries = dashboard.getQueryList();
         if (queries.isEmpty()) {
             return;
         }
-        DashboardViewContainer view = dashboard.getGroup().getView();
-        DBCExecutionContext executionContext = view.getExecutionContext();
-        if (executionContext == null) {
-            return;
-        }
-        try (DBCSession session = executionContext.openSession(
-            monitor, DBCExecutionPurpose.UTIL, "Read dashboard '" + dashboard.getDashboardTitle() + "' data")) {
-            session.enableLogging(false);
-
-            DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
-            boolean revertTxn = false;
-            if (false) {
-                // FIXME: dashboards must be queued in auto-commit mode?
-                // FIXME: we can't switch to auto-commit because connection may be used by another tasks (e.g. SQL editor)
-                if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
-                    txnManager.setAutoCommit(monitor, true);
-                    revertTxn = true;
-                }
-            }
-            try {
-                for (DashboardQuery query : queries) {
-                    try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.getQueryText(), false, false, false)) {
-                        if (dbStat.executeStatement()) {
-                            try (DBCResultSet dbResults = dbStat.openResultSet()) {
-                                if (dbResults != null) {
-                                    fetchDashboardData(dashboard, dbResults);
-                                }
+        // FIXME: dashboards must be queued in auto-commit mode?
+        // FIXME: we can't switch to auto-commit because connection may be used by another tasks (e.g. SQL editor)
+        Map<String, QueryResult> contextResults = queryResults.computeIfAbsent(
+            session.getExecutionContext(), c -> new HashMap<>());
+        for (DashboardQuery query : queries) {
+            String queryText = query.getQueryText();
+            QueryResult queryResult = contextResults.get(queryText);
+            if (queryResult == null || !queryResult.isSuitableFor(dashboard, System.currentTimeMillis())) {
+                try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, queryText, false, false, false)) {
+                    if (dbStat.executeStatement()) {
+                        try (DBCResultSet dbResults = dbStat.openResultSet()) {
+                            if (dbResults != null) {
+                                queryResult = new QueryResult(
+                                    System.currentTimeMillis(),
+                                    dashboard.getDashboardMaxItems(),
+                                    fetchDashboardData(dbResults, dashboard.getDashboardMaxItems()));
+                                contextResults.put(queryText, queryResult);
                             }
                         }
-                    } catch (Exception e) {
-                        throw new DBCException("Error updating dashboard " + dashboard.getDashboardId(), e, session.getExecutionContext());
                     }
+                } catch (Exception e) {
+                    throw new DBCException("Error updating dashboard " + dashboard.getDashboardId(), e, session.getExecutionContext());
                 }
-            } finally {
-                if (revertTxn) {
-                    txnManager.setAutoCommit(monitor, false);
-                }
+            }
+            if (queryResult != null) {
+                updateDashboardData(dashboard, queryResult.dataset);
             }
         }
     }
@@ -300,7 +359,7 @@ public class DashboardUpdater {
         }
     }
 
-    private void fetchDashboardData(DashboardContainer dashboard, DBCResultSet dbResults) throws DBCException {
+    private DashboardDataset fetchDashboardData(DBCResultSet dbResults, int maxItems) throws DBCException {
         DBCResultSetMetaData meta = dbResults.getMeta();
         List<DBCAttributeMetaData> rsAttrs = meta.getAttributes();
         List<String> colNames = new ArrayList<>();
@@ -330,11 +389,22 @@ public class DashboardUpdater {
                 values[i] = dbResults.getAttributeValue(colNames.get(i));
             }
             dataset.addRow(new DashboardDatasetRow(timestamp, values));
-            if (dataset.getRows().size() >= dashboard.getDashboardMaxItems()) {
+            if (dataset.getRows().size() >= maxItems) {
                 break;
             }
         }
+        return dataset;
+    }
 
+    private void updateDashboardData(DashboardContainer dashboard, DashboardDataset dataset) {
+        if (dataset.getRows().size() > dashboard.getDashboardMaxItems()) {
+            // Dataset was read for a dashboard with a bigger limit
+            DashboardDataset truncated = new DashboardDataset(dataset.getColumnNames());
+            for (DashboardDatasetRow row : dataset.getRows().subList(0, dashboard.getDashboardMaxItems())) {
+                truncated.addRow(row);
+            }
+            dataset = truncated;
+        }
         switch (dashboard.getDashboardFetchType()) {
             case rows:
                 dataset = transposeDataset(dataset);
@@ -400,6 +470,10 @@ public class DashboardUpdater {
         if (viewManager == null || !viewManager.getDataSourceContainer().isConnected()) {
             return;
         }
+        if (!view.getSite().getPage().isPartVisible(view)) {
+            // Do not query data for hidden views. They will be updated once become visible.
+            return;
+        }
         for (DashboardGroupContainer group : viewManager.getGroups()) {
             for (DashboardContainer dashboard : group.getItems()) {
                 Date lastUpdateTime = dashboard.getLastUpdateTime();
@@ -52,6 +52,7 @@ public abstract class LightGrid extends Canvas {
     private static final Log log = Log.getLog(LightGrid.class);
 
     private static final int MAX_TOOLTIP_LENGTH = 1000;
+    private static final int MAX_TEXT_EXTENT_CACHE_SIZE = 5000;
 
     protected static final int Event_ChangeSort = 1000;
     protected static final int Event_NavigateLink = 1001;
@@ -317,6 +318,8 @@ public abstract class LightGrid extends Canvas {
 
     final GC sizingGC;
     FontMetrics fontMetrics;
+    // Measured text extents per font. Access-ordered, evicted by size
+    private final Map<Font, Map<String, Point>> textExtentCache = new HashMap<>();
     Font normalFont;
     Font boldFont;
     Font italicFont;
@@ -578,6 +581,7 @@ public abstract class LightGrid extends Canvas {
         }
         refreshRowsData();
         this.displayedToolTipText = null;
+        this.textExtentCache.clear();
 
         if (refreshColumns) {
             // Invalidate columns structure
@@ -4683,6 +4687,7 @@ public abstract class LightGrid extends Canvas {
         super.setFont(font);
         sizingGC.setFont(font);
         fontMetrics = sizingGC.getFontMetrics();
+        textExtentCache.clear();
         normalFont = font;
         UIUtils.dispose(boldFont);
         UIUtils.dispose(italicFont);
@@ -4703,6 +4708,41 @@ public abstract class LightGrid extends Canvas {
         }
     }
 
+    /**
+     * Returns extent of the text drawn with the specified font.
+     * Extents are cached, returned point must not be modified.
+     */
+    @NotNull
+    Point getTextExtent(@NotNull String text, @Nullable Font font) {
+        if (font == null) {
+            font = normalFont;
+        }
+        Map<String, Point> fontCache = textExtentCache.get(font);
+        if (fontCache == null) {
+            fontCache = new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Point> eldest) {
+                    return size() > MAX_TEXT_EXTENT_CACHE_SIZE;
+                }
+            };
+            textExtentCache.put(font, fontCache);
+        }
+        Point extent = fontCache.get(text);
+        if (extent == null) {
+            Font oldFont = sizingGC.getFont();
+            boolean changeFont = font != null && !font.equals(oldFont);
+            if (changeFont) {
+                sizingGC.setFont(font);
+            }
+            extent = sizingGC.textExtent(text);
+            if (changeFont) {
+                sizingGC.setFont(oldFont);
+            }
+            fontCache.put(text, extent);
+        }
+        return extent;
+    }
+
     public String getCellText(IGridColumn colElement, IGridRow rowElement) {
         Object text = getContentProvider().getCellValue(
             colElement, rowElement, true);
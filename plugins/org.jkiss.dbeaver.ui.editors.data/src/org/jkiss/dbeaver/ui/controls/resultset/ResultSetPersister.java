@@ -41,6 +41,7 @@ import org.jkiss.dbeaver.ui.UITask;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.resultset.internal.ResultSetMessages;
 import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
@@ -53,6 +54,11 @@ class ResultSetPersister {
 
     private static final Log log = Log.getLog(ResultSetPersister.class);
 
+    // Max number of rows in one statements batch
+    private static final int MAX_BATCH_SIZE = 1000;
+    // Max number of keys in one refresh query
+    private static final int MAX_REFRESH_KEYS = 100;
+
     /**
      * Data update listener
      */
@@ -535,6 +541,24 @@ class ResultSetPersister {
         }
     }
 
+    /**
+     * Splits statements into groups of consecutive statements with the same entity and attributes.
+     * Each group is executed as a single batch. Inserts which read generated keys are never grouped.
+     */
+    @NotNull
+    private static List<List<DataStatementInfo>> groupStatements(List<DataStatementInfo> statements) {
+        List<List<DataStatementInfo>> groups = new ArrayList<>();
+        List<DataStatementInfo> curGroup = null;
+        for (DataStatementInfo statement : statements) {
+            if (curGroup == null || curGroup.size() >= MAX_BATCH_SIZE || !curGroup.get(0).isSameShape(statement)) {
+                curGroup = new ArrayList<>();
+                groups.add(curGroup);
+            }
+            curGroup.add(statement);
+        }
+        return groups;
+    }
+
     @NotNull
     private DBSDataManipulator getDataManipulator(DBSEntity entity) throws DBCException {
         if (entity instanceof DBSDataManipulator) {
@@ -741,96 +765,27 @@ class ResultSetPersister {
                 }
             }
             try {
-                for (DataStatementInfo statement : ResultSetPersister.this.deleteStatements) {
+                // Statements of the same shape are executed in batches
+                for (List<DataStatementInfo> group : groupStatements(ResultSetPersister.this.deleteStatements)) {
                     if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.deleteData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            new ExecutionSource(dataContainer))) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                deleteStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
+                    DBException groupError = executeStatementGroup(session, group, options);
+                    if (groupError != null) {
+                        return groupError;
                     }
-                    monitor.worked(1);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.insertStatements) {
+                for (List<DataStatementInfo> group : groupStatements(ResultSetPersister.this.insertStatements)) {
                     if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.insertData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            statement.needKeys() ? new KeyDataReceiver(statement) : null,
-                            new ExecutionSource(dataContainer),
-                            options)) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                insertStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
+                    DBException groupError = executeStatementGroup(session, group, options);
+                    if (groupError != null) {
+                        return groupError;
                     }
-                    monitor.worked(1);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.updateStatements) {
+                for (List<DataStatementInfo> group : groupStatements(ResultSetPersister.this.updateStatements)) {
                     if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.updateData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.updateAttributes),
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            null,
-                            new ExecutionSource(dataContainer))) {
-                            // Make single array of values
-                            Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
-                            for (int i = 0; i < statement.updateAttributes.size(); i++) {
-                                attributes[i] = statement.updateAttributes.get(i).getValue();
-                            }
-                            for (int i = 0; i < statement.keyAttributes.size(); i++) {
-                                attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
-                            }
-                            // Execute
-                            batch.add(attributes);
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                updateStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
+                    DBException groupError = executeStatementGroup(session, group, options);
+                    if (groupError != null) {
+                        return groupError;
                     }
-                    monitor.worked(1);
                 }
 
                 return null;
@@ -846,6 +801,146 @@ class ResultSetPersister {
             }
         }
 
+        @Nullable
+        private DBException executeStatementGroup(DBCSession session, List<DataStatementInfo> group, Map<String, Object> options) {
+            DBRProgressMonitor monitor = session.getProgressMonitor();
+            if (!generateScript && autocommit && group.size() > 1) {
+                // Each executed row would be committed immediately and we can't tell which rows of failed batch were saved.
+                // Execute batch in a short transaction, so all its rows are either saved or not.
+                DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+                if (txnManager != null && switchAutoCommit(txnManager, monitor, false)) {
+                    try {
+                        DBException error = executeBatch(session, group, options);
+                        if (error == null) {
+                            try {
+                                txnManager.commit(session);
+                            } catch (DBCException e) {
+                                for (DataStatementInfo statement : group) {
+                                    statement.executed = false;
+                                }
+                                processStatementError(group.get(0), session);
+                                return e;
+                            }
+                        }
+                        return error;
+                    } finally {
+                        if (!switchAutoCommit(txnManager, monitor, true)) {
+                            log.warn("Can't restore auto-commit mode");
+                        }
+                    }
+                }
+                // Transactions are not supported. Execute rows one by one,
+                // so only failed and not executed rows remain unsaved.
+                for (DataStatementInfo statement : group) {
+                    if (monitor.isCanceled()) {
+                        break;
+                    }
+                    DBException error = executeBatch(session, Collections.singletonList(statement), options);
+                    if (error != null) {
+                        return error;
+                    }
+                }
+                return null;
+            }
+            return executeBatch(session, group, options);
+        }
+
+        private boolean switchAutoCommit(DBCTransactionManager txnManager, DBRProgressMonitor monitor, boolean autoCommit) {
+            try {
+                txnManager.setAutoCommit(monitor, autoCommit);
+                return txnManager.isAutoCommit() == autoCommit;
+            } catch (DBCException e) {
+                log.debug("Can't switch auto-commit mode", e);
+                return false;
+            }
+        }
+
+        @Nullable
+        private DBException executeBatch(DBCSession session, List<DataStatementInfo> group, Map<String, Object> options) {
+            DBRProgressMonitor monitor = session.getProgressMonitor();
+            DataStatementInfo first = group.get(0);
+            try {
+                DBSDataManipulator dataContainer = getDataManipulator(first.entity);
+                try (DBSDataManipulator.ExecuteBatch batch = openBatch(session, dataContainer, first, options)) {
+                    for (DataStatementInfo statement : group) {
+                        batch.add(statement.getBatchValues());
+                    }
+                    if (generateScript) {
+                        batch.generatePersistActions(session, script, options);
+                    } else {
+                        DBCStatistics bs = batch.execute(session, options);
+                        if (monitor.isCanceled()) {
+                            if (group.size() == 1 && bs.getStatementsCount() == 0) {
+                                // Canceled before execution
+                                return null;
+                            }
+                            if (group.size() > 1) {
+                                // Batch execution was interrupted, we don't know which rows were sent.
+                                // Batches are always executed in transaction, so it will be rolled back.
+                                throw new DBCException("Changes saving was canceled");
+                            }
+                        }
+                        // Notify rsv container about statement execute
+                        this.notifyContainer(bs);
+
+                        switch (first.type) {
+                            case DELETE:
+                                deleteStats.accumulate(bs);
+                                break;
+                            case INSERT:
+                                insertStats.accumulate(bs);
+                                break;
+                            default:
+                                updateStats.accumulate(bs);
+                                break;
+                        }
+                    }
+                }
+                for (DataStatementInfo statement : group) {
+                    processStatementChanges(statement);
+                }
+            } catch (DBException e) {
+                // We don't know which rows of the batch were saved
+                for (DataStatementInfo statement : group) {
+                    statement.executed = false;
+                }
+                processStatementError(first, session);
+                return e;
+            }
+            monitor.worked(group.size());
+            return null;
+        }
+
+        @NotNull
+        private DBSDataManipulator.ExecuteBatch openBatch(
+            DBCSession session,
+            DBSDataManipulator dataContainer,
+            DataStatementInfo statement,
+            Map<String, Object> options
+        ) throws DBException {
+            switch (statement.type) {
+                case DELETE:
+                    return dataContainer.deleteData(
+                        session,
+                        DBDAttributeValue.getAttributes(statement.keyAttributes),
+                        new ExecutionSource(dataContainer));
+                case INSERT:
+                    return dataContainer.insertData(
+                        session,
+                        DBDAttributeValue.getAttributes(statement.keyAttributes),
+                        statement.needKeys() ? new KeyDataReceiver(statement) : null,
+                        new ExecutionSource(dataContainer),
+                        options);
+                default:
+                    return dataContainer.updateData(
+                        session,
+                        DBDAttributeValue.getAttributes(statement.updateAttributes),
+                        DBDAttributeValue.getAttributes(statement.keyAttributes),
+                        null,
+                        new ExecutionSource(dataContainer));
+            }
+        }
+
         private void processStatementChanges(DataStatementInfo statement) {
             statement.executed = true;
         }
@@ -970,11 +1065,50 @@ class ResultSetPersister {
             }
             return false;
         }
+
+        boolean isSameShape(@NotNull DataStatementInfo statement) {
+            if (type != statement.type || entity != statement.entity) {
+                return false;
+            }
+            if (type == DBSManipulationType.INSERT && (needKeys() || statement.needKeys())) {
+                // Generated keys are read for a single row only
+                return false;
+            }
+            return hasSameAttributes(keyAttributes, statement.keyAttributes) &&
+                hasSameAttributes(updateAttributes, statement.updateAttributes);
+        }
+
+        /**
+         * Update values followed by key values
+         */
+        @NotNull
+        Object[] getBatchValues() {
+            Object[] values = new Object[updateAttributes.size() + keyAttributes.size()];
+            for (int i = 0; i < updateAttributes.size(); i++) {
+                values[i] = updateAttributes.get(i).getValue();
+            }
+            for (int i = 0; i < keyAttributes.size(); i++) {
+                values[updateAttributes.size() + i] = keyAttributes.get(i).getValue();
+            }
+            return values;
+        }
+
+        private static boolean hasSameAttributes(List<DBDAttributeValue> values1, List<DBDAttributeValue> values2) {
+            if (values1.size() != values2.size()) {
+                return false;
+            }
+            for (int i = 0; i < values1.size(); i++) {
+                if (values1.get(i).getAttribute() != values2.get(i).getAttribute()) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     class RowDataReceiver implements DBDDataReceiver {
         private final DBDAttributeBinding[] curAttributes;
-        private Object[] rowValues;
+        private final List<Object[]> rowValues = new ArrayList<>();
 
         RowDataReceiver(DBDAttributeBinding[] curAttributes) {
             this.curAttributes = curAttributes;
@@ -1004,13 +1138,14 @@ class ResultSetPersister {
                 }
             }
 
-            rowValues = new Object[curAttributes.length];
+            Object[] values = new Object[curAttributes.length];
             for (int i = 0; i < curAttributes.length; i++) {
                 final DBDAttributeBinding attr = curAttributes[i];
                 DBDValueHandler valueHandler = attr.getValueHandler();
                 Object attrValue = valueHandler.fetchValueObject(session, resultSet, attr, i);
-                rowValues[i] = attrValue;
+                values[i] = attrValue;
             }
+            rowValues.add(values);
 
         }
 
@@ -1057,38 +1192,11 @@ class ResultSetPersister {
                     return Status.OK_STATUS;
                 }
                 try (DBCSession session = getExecutionContext().openSession(monitor, DBCExecutionPurpose.UTIL, "Refresh row(s) after insert/update")) {
-                    for (int i = 0; i < rows.size(); i++) {
-                        ResultSetRow row = rows.get(i);
-                        List<DBDAttributeConstraint> constraints = new ArrayList<>();
-                        boolean hasKey = true;
-                        for (DBDAttributeBinding keyAttr : idAttributes) {
-                            final Object keyValue = viewer.getModel().getCellValue(keyAttr, row);
-                            if (DBUtils.isNullValue(keyValue)) {
-                                hasKey = false;
-                                break;
-                            }
-                            final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
-                            constraint.setOperator(DBCLogicalOperator.EQUALS);
-                            constraint.setValue(keyValue);
-                            constraints.add(constraint);
-                        }
-                        if (!hasKey) {
-                            // No key value for this row
-                            continue;
-                        }
-                        DBDDataFilter filter = new DBDDataFilter(constraints);
-
-                        RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
-                        final DBCStatistics stats = dataContainer.readData(
-                            executionSource,
-                            session,
-                            dataReceiver,
-                            filter,
-                            0,
-                            0,
-                            DBSDataContainer.FLAG_REFRESH,
-                            0);
-                        refreshValues[i] = dataReceiver.rowValues;
+                    int keyIndex = getBulkRefreshKeyIndex(idAttributes, curAttributes);
+                    if (keyIndex >= 0) {
+                        refreshRowsByKeys(session, dataContainer, executionSource, curAttributes, idAttributes.get(0), keyIndex, refreshValues);
+                    } else {
+                        refreshRowsOneByOne(session, dataContainer, executionSource, curAttributes, idAttributes, refreshValues);
                     }
                 }
 
@@ -1126,6 +1234,115 @@ class ResultSetPersister {
             }
             return Status.OK_STATUS;
         }
+
+        /**
+         * Rows with single-column key are read with IN criteria. Returns key position in row values or -1.
+         */
+        private int getBulkRefreshKeyIndex(List<DBDAttributeBinding> idAttributes, DBDAttributeBinding[] curAttributes) {
+            if (rows.size() < 2 || idAttributes.size() != 1) {
+                return -1;
+            }
+            DBDAttributeBinding keyAttr = idAttributes.get(0);
+            if (!ArrayUtils.contains(keyAttr.getValueHandler().getSupportedOperators(keyAttr), DBCLogicalOperator.IN)) {
+                return -1;
+            }
+            return ArrayUtils.indexOf(curAttributes, attr -> attr == keyAttr);
+        }
+
+        private void refreshRowsByKeys(
+            DBCSession session,
+            DBSDataContainer dataContainer,
+            AbstractExecutionSource executionSource,
+            DBDAttributeBinding[] curAttributes,
+            DBDAttributeBinding keyAttr,
+            int keyIndex,
+            Object[][] refreshValues
+        ) throws DBCException {
+            for (int offset = 0; offset < rows.size(); offset += MAX_REFRESH_KEYS) {
+                if (session.getProgressMonitor().isCanceled()) {
+                    break;
+                }
+                List<Integer> rowIndexes = new ArrayList<>();
+                List<Object> keyValues = new ArrayList<>();
+                for (int i = offset; i < Math.min(offset + MAX_REFRESH_KEYS, rows.size()); i++) {
+                    final Object keyValue = viewer.getModel().getCellValue(keyAttr, rows.get(i));
+                    if (!DBUtils.isNullValue(keyValue)) {
+                        rowIndexes.add(i);
+                        keyValues.add(keyValue);
+                    }
+                }
+                if (keyValues.isEmpty()) {
+                    continue;
+                }
+                final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
+                constraint.setOperator(DBCLogicalOperator.IN);
+                constraint.setValue(keyValues.toArray());
+
+                RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
+                dataContainer.readData(
+                    executionSource,
+                    session,
+                    dataReceiver,
+                    new DBDDataFilter(Collections.singletonList(constraint)),
+                    0,
+                    0,
+                    DBSDataContainer.FLAG_REFRESH,
+                    0);
+                for (Object[] values : dataReceiver.rowValues) {
+                    for (int k = 0; k < keyValues.size(); k++) {
+                        if (DBUtils.compareDataValues(values[keyIndex], keyValues.get(k)) == 0) {
+                            refreshValues[rowIndexes.get(k)] = values;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void refreshRowsOneByOne(
+            DBCSession session,
+            DBSDataContainer dataContainer,
+            AbstractExecutionSource executionSource,
+            DBDAttributeBinding[] curAttributes,
+            List<DBDAttributeBinding> idAttributes,
+            Object[][] refreshValues
+        ) throws DBCException {
+            for (int i = 0; i < rows.size(); i++) {
+                ResultSetRow row = rows.get(i);
+                List<DBDAttributeConstraint> constraints = new ArrayList<>();
+                boolean hasKey = true;
+                for (DBDAttributeBinding keyAttr : idAttributes) {
+                    final Object keyValue = viewer.getModel().getCellValue(keyAttr, row);
+                    if (DBUtils.isNullValue(keyValue)) {
+                        hasKey = false;
+                        break;
+                    }
+                    final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
+                    constraint.setOperator(DBCLogicalOperator.EQUALS);
+                    constraint.setValue(keyValue);
+                    constraints.add(constraint);
+                }
+                if (!hasKey) {
+                    // No key value for this row
+                    continue;
+                }
+                DBDDataFilter filter = new DBDDataFilter(constraints);
+
+                RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
+                dataContainer.readData(
+                    executionSource,
+                    session,
+                    dataReceiver,
+                    filter,
+                    0,
+                    0,
+                    DBSDataContainer.FLAG_REFRESH,
+                    0);
+                if (!dataReceiver.rowValues.isEmpty()) {
+                    refreshValues[i] = dataReceiver.rowValues.get(dataReceiver.rowValues.size() - 1);
+                }
+            }
+        }
     }
 
 }
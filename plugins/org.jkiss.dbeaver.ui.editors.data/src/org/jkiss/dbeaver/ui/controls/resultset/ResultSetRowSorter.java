@@ -0,0 +1,206 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Client-side result set rows sorter.
+ * Sort keys are extracted once per row and column before sorting (primitive numbers and dates,
+ * case-folded strings), so comparisons do not read cell values or allocate anything.
+ * Big row sets are sorted with a parallel (stable) merge sort.
+ */
+class ResultSetRowSorter {
+
+    private enum KeyType {
+        NUMBER,
+        DATE,
+        STRING,
+        OBJECT
+    }
+
+    private static class SortKey {
+        final boolean descending;
+        final KeyType type;
+        final boolean[] nulls;
+        double[] numbers;
+        long[] dates;
+        String[] strings;
+        Object[] objects;
+
+        SortKey(boolean descending, KeyType type, int rowCount) {
+            this.descending = descending;
+            this.type = type;
+            this.nulls = new boolean[rowCount];
+        }
+
+        int compare(int pos1, int pos2) {
+            boolean null1 = nulls[pos1], null2 = nulls[pos2];
+            int result;
+            if (null1 || null2) {
+                // Nulls go last (the same as DBUtils.compareDataValues)
+                result = null1 == null2 ? 0 : (null1 ? 1 : -1);
+            } else {
+                switch (type) {
+                    case NUMBER:
+                        result = compareDoubles(numbers[pos1], numbers[pos2]);
+                        break;
+                    case DATE:
+                        result = Long.compare(dates[pos1], dates[pos2]);
+                        break;
+                    case STRING:
+                        result = strings[pos1].compareTo(strings[pos2]);
+                        break;
+                    default:
+                        result = compareObjects(objects[pos1], objects[pos2]);
+                        break;
+                }
+            }
+            return descending ? -result : result;
+        }
+    }
+
+    private final ResultSetModel model;
+
+    ResultSetRowSorter(@NotNull ResultSetModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Sorts rows by specified attributes. Rows are expected to be in their original order.
+     * Row visual numbers are updated.
+     */
+    void sortRows(@NotNull List<ResultSetRow> rows, @NotNull List<DBDAttributeBinding> attributes, @NotNull List<Boolean> descending) {
+        final int rowCount = rows.size();
+        final ResultSetRow[] rowArray = rows.toArray(new ResultSetRow[0]);
+        // Visual number is used as index in sort keys arrays during sort
+        for (int i = 0; i < rowCount; i++) {
+            rowArray[i].setVisualNumber(i);
+        }
+        final SortKey[] keys = new SortKey[attributes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = extractSortKey(rowArray, attributes.get(i), descending.get(i));
+        }
+        Comparator<ResultSetRow> comparator = (row1, row2) -> {
+            final int pos1 = row1.getVisualNumber(), pos2 = row2.getVisualNumber();
+            for (SortKey key : keys) {
+                int result = key.compare(pos1, pos2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+        // Falls back to sequential merge sort on small arrays
+        Arrays.parallelSort(rowArray, comparator);
+
+        for (int i = 0; i < rowCount; i++) {
+            ResultSetRow row = rowArray[i];
+            row.setVisualNumber(i);
+            rows.set(i, row);
+        }
+    }
+
+    private SortKey extractSortKey(ResultSetRow[] rows, DBDAttributeBinding attribute, boolean descending) {
+        final Object[] values = new Object[rows.length];
+        boolean allNumbers = true, allDates = true, allStrings = true;
+        for (int i = 0; i < rows.length; i++) {
+            Object value = model.getCellValue(attribute, rows[i]);
+            if (DBUtils.isNullValue(value)) {
+                continue;
+            }
+            values[i] = value;
+            allNumbers &= value instanceof Number;
+            allStrings &= value instanceof String;
+            // Subclasses (e.g. timestamps with nanos) use their own comparison
+            allDates &= value.getClass() == java.util.Date.class || value.getClass() == java.sql.Date.class;
+        }
+        final KeyType type = allNumbers ? KeyType.NUMBER : allDates ? KeyType.DATE : allStrings ? KeyType.STRING : KeyType.OBJECT;
+        final SortKey key = new SortKey(descending, type, rows.length);
+        switch (type) {
+            case NUMBER:
+                key.numbers = new double[rows.length];
+                break;
+            case DATE:
+                key.dates = new long[rows.length];
+                break;
+            case STRING:
+                key.strings = new String[rows.length];
+                break;
+            default:
+                key.objects = values;
+                break;
+        }
+        for (int i = 0; i < rows.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                key.nulls[i] = true;
+                continue;
+            }
+            switch (type) {
+                case NUMBER:
+                    key.numbers[i] = ((Number) value).doubleValue();
+                    break;
+                case DATE:
+                    key.dates[i] = ((java.util.Date) value).getTime();
+                    break;
+                case STRING:
+                    key.strings[i] = foldCase((String) value);
+                    break;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Makes a string which compares with {@link String#compareTo(String)} the same way
+     * as the original one compares with {@link String#compareToIgnoreCase(String)}.
+     */
+    private static String foldCase(String str) {
+        char[] chars = null;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            char folded = Character.toLowerCase(Character.toUpperCase(c));
+            if (folded != c) {
+                if (chars == null) {
+                    chars = str.toCharArray();
+                }
+                chars[i] = folded;
+            }
+        }
+        return chars == null ? str : new String(chars);
+    }
+
+    private static int compareDoubles(double value1, double value2) {
+        // The same as CommonUtils.compareNumbers
+        return value1 < value2 ? -1 : (value1 > value2 ? 1 : 0);
+    }
+
+    private static int compareObjects(Object cell1, Object cell2) {
+        if (cell1 instanceof String && cell2 instanceof String) {
+            return ((String) cell1).compareToIgnoreCase((String) cell2);
+        }
+        return DBUtils.compareDataValues(cell1, cell2);
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.jkiss.dbeaver.ui.controls.resultset.panel.aggregate;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.action.*;
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.viewers.ISelection;
@@ -33,6 +35,8 @@ import org.jkiss.dbeaver.model.DBPImage;
 import org.jkiss.dbeaver.model.DBValueFormatting;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.aggregate.IAggregateFunction;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.registry.functions.AggregateFunctionDescriptor;
 import org.jkiss.dbeaver.registry.functions.FunctionsRegistry;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
@@ -64,6 +68,9 @@ public class AggregateColumnsPanel implements IResultSetPanel {
     private static final DecimalFormat DOUBLE_FORMAT = new DecimalFormat("###,###,###,###,###,##0.###");
     private static final DecimalFormat INTEGER_FORMAT = new DecimalFormat("###,###,###,###,###,##0");
 
+    // Bigger selections are aggregated in background job
+    private static final int BACKGROUND_AGGREGATION_THRESHOLD = 10000;
+
     private IResultSetPresentation presentation;
     private Tree aggregateTable;
 
@@ -75,6 +82,25 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
     private final List<AggregateFunctionDescriptor> enabledFunctions = new ArrayList<>();
     private boolean featureTracked;
+    private AggregateJob aggregateJob;
+
+    /**
+     * Aggregate functions evaluated over a set of values.
+     * Created in UI thread, may be evaluated in background.
+     */
+    private static class AggregateTask {
+        private final Collection<Object> values;
+        private final IAggregateFunction[] functions;
+        private final TreeItem[] items;
+        private final Object[] results;
+
+        AggregateTask(Collection<Object> values, IAggregateFunction[] functions, TreeItem[] items) {
+            this.values = values;
+            this.functions = functions;
+            this.items = items;
+            this.results = new Object[functions.length];
+        }
+    }
 
     public AggregateColumnsPanel() {
     }
@@ -198,6 +224,10 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
     @Override
     public void refresh(boolean force) {
+        if (aggregateJob != null) {
+            aggregateJob.cancel();
+            aggregateJob = null;
+        }
         aggregateTable.setRedraw(false);
         try {
             aggregateTable.removeAll();
@@ -229,6 +259,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             featureTracked = true;
         }
         ResultSetModel model = presentation.getController().getModel();
+        List<AggregateTask> tasks = new ArrayList<>();
         if (groupByColumns) {
             Map<DBDAttributeBinding, List<Object>> attrValues = new LinkedHashMap<>();
             for (Object element : selection.toList()) {
@@ -243,7 +274,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
                 TreeItem attrItem = new TreeItem(aggregateTable, SWT.NONE);
                 attrItem.setText(entry.getKey().getName());
                 attrItem.setImage(DBeaverIcons.getImage(DBValueFormatting.getObjectImage(entry.getKey())));
-                aggregateValues(attrItem, entry.getValue());
+                tasks.add(createAggregateTask(attrItem, entry.getValue()));
                 attrItem.setExpanded(true);
             }
         } else {
@@ -256,13 +287,23 @@ public class AggregateColumnsPanel implements IResultSetPanel {
                     allValues.add(cellValue);
                 }
             }
-            aggregateValues(null, allValues);
+            tasks.add(createAggregateTask(null, allValues));
+        }
+
+        if (selection.size() < BACKGROUND_AGGREGATION_THRESHOLD) {
+            for (AggregateTask task : tasks) {
+                evaluateTask(task);
+                showTaskResults(task);
+            }
+        } else {
+            aggregateJob = new AggregateJob(tasks);
+            aggregateJob.schedule();
         }
     }
 
-    private void aggregateValues(TreeItem parentItem, Collection<Object> values) {
+    private AggregateTask createAggregateTask(TreeItem parentItem, Collection<Object> values) {
         List<AggregateFunctionDescriptor> functions = enabledFunctions;
-        Map<IAggregateFunction, TreeItem> funcMap = new IdentityHashMap<>();
+        Map<IAggregateFunction, TreeItem> funcMap = new LinkedHashMap<>();
         for (AggregateFunctionDescriptor funcDesc : functions) {
             TreeItem funcItem = (parentItem == null) ?
                 new TreeItem(aggregateTable, SWT.NONE) :
@@ -281,23 +322,43 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             }
         }
 
-        IAggregateFunction[] funcs = funcMap.keySet().toArray(new IAggregateFunction[funcMap.size()]);
+        return new AggregateTask(
+            values,
+            funcMap.keySet().toArray(new IAggregateFunction[0]),
+            funcMap.values().toArray(new TreeItem[0]));
+    }
+
+    private boolean evaluateTask(AggregateTask task) {
+        return evaluateTask(task, null);
+    }
+
+    private boolean evaluateTask(AggregateTask task, DBRProgressMonitor monitor) {
+        IAggregateFunction[] funcs = task.functions;
         int[] funcCount = new int[funcs.length];
-        for (Object element : values) {
+        int valueIndex = 0;
+        for (Object element : task.values) {
             for (int i = 0; i < funcs.length; i++) {
                 if (funcs[i].accumulate(element, aggregateAsStrings)) {
                     funcCount[i]++;
                 }
             }
+            if (monitor != null && ++valueIndex % 1000 == 0 && monitor.isCanceled()) {
+                return false;
+            }
         }
         for (int i = 0; i < funcs.length; i++) {
-            if (funcCount[i] <= 0) {
-                continue;
+            if (funcCount[i] > 0) {
+                task.results[i] = funcs[i].getResult(funcCount[i]);
             }
-            IAggregateFunction func = funcs[i];
-            Object result = func.getResult(funcCount[i]);
-            if (result != null) {
-                TreeItem treeItem = funcMap.get(func);
+        }
+        return true;
+    }
+
+    private void showTaskResults(AggregateTask task) {
+        for (int i = 0; i < task.functions.length; i++) {
+            Object result = task.results[i];
+            TreeItem treeItem = task.items[i];
+            if (result != null && !treeItem.isDisposed()) {
                 String strValue;
                 if (result instanceof Double || result instanceof Float || result instanceof BigDecimal) {
                     strValue = DOUBLE_FORMAT.format(result);
@@ -313,6 +374,36 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         }
     }
 
+    private class AggregateJob extends AbstractJob {
+        private final List<AggregateTask> tasks;
+
+        AggregateJob(List<AggregateTask> tasks) {
+            super("Aggregate selected values");
+            this.tasks = tasks;
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            for (AggregateTask task : tasks) {
+                if (!evaluateTask(task, monitor)) {
+                    return Status.CANCEL_STATUS;
+                }
+            }
+            UIUtils.asyncExec(() -> {
+                if (aggregateTable.isDisposed() || aggregateJob != this) {
+                    return;
+                }
+                aggregateJob = null;
+                for (AggregateTask task : tasks) {
+                    showTaskResults(task);
+                }
+                UIUtils.packColumns(aggregateTable, false, null);
+            });
+            return Status.OK_STATUS;
+        }
+    }
+
     public void clearValue()
     {
         aggregateTable.removeAll();
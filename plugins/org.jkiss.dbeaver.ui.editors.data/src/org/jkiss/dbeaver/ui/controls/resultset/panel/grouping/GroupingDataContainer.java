@@ -39,6 +39,8 @@ public class GroupingDataContainer implements DBSDataContainer {
     private IResultSetController parentController;
     private String query;
     private String[] attributes;
+    // Set when grouping is performed over fetched rows instead of the grouping query
+    private GroupingLocalAggregator localAggregator;
 
     public GroupingDataContainer(IResultSetController parentController) {
         this.parentController = parentController;
@@ -71,6 +73,9 @@ public class GroupingDataContainer implements DBSDataContainer {
 
     @Override
     public String[] getSupportedFeatures() {
+        if (localAggregator != null) {
+            return new String[] {FEATURE_DATA_SELECT};
+        }
         return new String[] {FEATURE_DATA_SELECT, FEATURE_DATA_FILTER};
     }
 
@@ -78,6 +83,15 @@ public class GroupingDataContainer implements DBSDataContainer {
     @Override
     public DBCStatistics readData(@NotNull DBCExecutionSource source, @NotNull DBCSession session, @NotNull DBDDataReceiver dataReceiver, DBDDataFilter dataFilter, long firstRow, long maxRows, long flags, int fetchSize) throws DBCException {
         DBCStatistics statistics = new DBCStatistics();
+        if (localAggregator != null) {
+            try {
+                session.getProgressMonitor().subTask("Group " + localAggregator.getRowCount() + " fetched rows");
+                localAggregator.readData(session, dataReceiver, statistics);
+            } finally {
+                dataReceiver.close();
+            }
+            return statistics;
+        }
         if (query == null) {
             statistics.addMessage("Empty query");
             return statistics;
@@ -166,6 +180,14 @@ public class GroupingDataContainer implements DBSDataContainer {
         this.query = sql;
     }
 
+    boolean isLocalGrouping() {
+        return localAggregator != null;
+    }
+
+    void setLocalAggregator(@Nullable GroupingLocalAggregator localAggregator) {
+        this.localAggregator = localAggregator;
+    }
+
     public void setGroupingAttributes(@Nullable String[] attributes) {
         this.attributes = attributes;
     }
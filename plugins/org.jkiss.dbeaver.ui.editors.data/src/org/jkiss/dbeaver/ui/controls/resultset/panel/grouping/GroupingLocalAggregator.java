@@ -0,0 +1,412 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.panel.grouping;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+import org.jkiss.utils.CommonUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory grouping of already fetched result set rows.
+ * Supports grouping by plain attributes and COUNT/SUM/AVG/MIN/MAX functions over plain attributes.
+ * Big row sets are aggregated in parallel chunks which are then merged.
+ */
+class GroupingLocalAggregator {
+
+    private static final Log log = Log.getLog(GroupingLocalAggregator.class);
+
+    private static final Pattern FUNCTION_PATTERN = Pattern.compile("([a-z]+)\\s*\\(\\s*(.+?)\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final int PARALLEL_ROWS_THRESHOLD = 100000;
+    private static final int ROWS_PER_CHUNK = 50000;
+
+    private enum FunctionType {
+        COUNT,
+        SUM,
+        AVG,
+        MIN,
+        MAX
+    }
+
+    private static class GroupFunction {
+        final String text;
+        final FunctionType type;
+        // Null for COUNT(*)
+        final DBDAttributeBinding attribute;
+
+        GroupFunction(String text, FunctionType type, DBDAttributeBinding attribute) {
+            this.text = text;
+            this.type = type;
+            this.attribute = attribute;
+        }
+    }
+
+    private static class Group {
+        final Object[] key;
+        final long[] counts;
+        // Long for integral values, BigDecimal for decimals or long overflow, Double for floating point values
+        final Number[] sums;
+        final Object[] extremes;
+
+        Group(Object[] key, int functionCount) {
+            this.key = key;
+            this.counts = new long[functionCount];
+            this.sums = new Number[functionCount];
+            this.extremes = new Object[functionCount];
+        }
+    }
+
+    private final ResultSetModel model;
+    private final List<ResultSetRow> rows;
+    private final DBDAttributeBinding[] groupAttributes;
+    private final GroupFunction[] functions;
+    private final boolean duplicatesOnly;
+    private final Boolean sortDescending;
+
+    private GroupingLocalAggregator(
+        ResultSetModel model,
+        DBDAttributeBinding[] groupAttributes,
+        GroupFunction[] functions,
+        boolean duplicatesOnly,
+        Boolean sortDescending
+    ) {
+        this.model = model;
+        // Rows snapshot. Model may be changed while we aggregate
+        this.rows = new ArrayList<>(model.getAllRows());
+        this.groupAttributes = groupAttributes;
+        this.functions = functions;
+        this.duplicatesOnly = duplicatesOnly;
+        this.sortDescending = sortDescending;
+    }
+
+    /**
+     * Creates aggregator for specified grouping.
+     *
+     * @param duplicatesOnly  leave only groups where the first function (COUNT) is greater than one
+     * @param defaultSorting  sort groups by the last function value (ASC/DESC), may be empty
+     * @return null if some attribute or function can't be evaluated locally
+     */
+    @Nullable
+    static GroupingLocalAggregator create(
+        @NotNull ResultSetModel model,
+        @Nullable DBPDataSource dataSource,
+        @NotNull List<String> groupAttributes,
+        @NotNull List<String> groupFunctions,
+        boolean duplicatesOnly,
+        @Nullable String defaultSorting
+    ) {
+        List<DBDAttributeBinding> allAttributes = Arrays.asList(model.getAttributes());
+        DBDAttributeBinding[] attributes = new DBDAttributeBinding[groupAttributes.size()];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = findAttribute(allAttributes, dataSource, groupAttributes.get(i));
+            if (attributes[i] == null) {
+                return null;
+            }
+        }
+        GroupFunction[] functions = new GroupFunction[groupFunctions.size()];
+        for (int i = 0; i < functions.length; i++) {
+            functions[i] = parseFunction(allAttributes, dataSource, groupFunctions.get(i));
+            if (functions[i] == null) {
+                return null;
+            }
+        }
+        if (duplicatesOnly && !(functions.length == 1 && functions[0].type == FunctionType.COUNT)) {
+            duplicatesOnly = false;
+        }
+        Boolean sortDescending = null;
+        if (!CommonUtils.isEmpty(defaultSorting)) {
+            sortDescending = defaultSorting.trim().toUpperCase(Locale.ENGLISH).startsWith("DESC");
+        }
+        return new GroupingLocalAggregator(model, attributes, functions, duplicatesOnly, sortDescending);
+    }
+
+    @Nullable
+    private static GroupFunction parseFunction(List<DBDAttributeBinding> attributes, DBPDataSource dataSource, String text) {
+        Matcher matcher = FUNCTION_PATTERN.matcher(text.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        FunctionType type = null;
+        for (FunctionType ft : FunctionType.values()) {
+            if (ft.name().equalsIgnoreCase(matcher.group(1))) {
+                type = ft;
+                break;
+            }
+        }
+        if (type == null) {
+            return null;
+        }
+        String argument = matcher.group(2);
+        if (type == FunctionType.COUNT && (argument.equals("*") || CommonUtils.isNumber(argument))) {
+            return new GroupFunction(text, type, null);
+        }
+        DBDAttributeBinding attribute = findAttribute(attributes, dataSource, argument);
+        return attribute == null ? null : new GroupFunction(text, type, attribute);
+    }
+
+    @Nullable
+    private static DBDAttributeBinding findAttribute(List<DBDAttributeBinding> attributes, DBPDataSource dataSource, String name) {
+        if (dataSource != null) {
+            name = DBUtils.getUnQuotedIdentifier(dataSource, name);
+        }
+        DBDAttributeBinding attribute = DBUtils.findObject(attributes, name);
+        if (attribute == null) {
+            attribute = DBUtils.findObject(attributes, name, true);
+        }
+        return attribute;
+    }
+
+    int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Groups rows and sends result to the data receiver
+     */
+    void readData(@NotNull DBCSession session, @NotNull DBDDataReceiver dataReceiver, @NotNull DBCStatistics statistics) throws DBCException {
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        long startTime = System.currentTimeMillis();
+        List<Group> groups = aggregate();
+        statistics.setExecuteTime(System.currentTimeMillis() - startTime);
+
+        LocalResultSet<DBCStatement> resultSet = new LocalResultSet<>(session, null);
+        for (DBDAttributeBinding attribute : groupAttributes) {
+            resultSet.addColumn(attribute.getName(), attribute);
+        }
+        for (GroupFunction function : functions) {
+            if (function.attribute != null && (function.type == FunctionType.MIN || function.type == FunctionType.MAX)) {
+                resultSet.addColumn(function.text, function.attribute);
+            } else {
+                resultSet.addColumn(function.text, DBPDataKind.NUMERIC);
+            }
+        }
+        for (Group group : groups) {
+            resultSet.addRow(makeResultRow(group));
+        }
+
+        startTime = System.currentTimeMillis();
+        long rowCount = 0;
+        try {
+            dataReceiver.fetchStart(session, resultSet, 0, groups.size());
+            while (resultSet.nextRow()) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                dataReceiver.fetchRow(session, resultSet);
+                rowCount++;
+            }
+        } finally {
+            try {
+                dataReceiver.fetchEnd(session, resultSet);
+            } catch (Throwable e) {
+                log.error("Error while finishing result set fetch", e); //$NON-NLS-1$
+            }
+            resultSet.close();
+        }
+        statistics.setFetchTime(System.currentTimeMillis() - startTime);
+        statistics.setRowsFetched(rowCount);
+    }
+
+    private List<Group> aggregate() {
+        Map<List<Object>, Group> result;
+        if (rows.size() < PARALLEL_ROWS_THRESHOLD) {
+            result = aggregateRows(0, rows.size());
+        } else {
+            int chunkCount = (rows.size() + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK;
+            List<Map<List<Object>, Group>> chunks = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk -> aggregateRows(chunk * ROWS_PER_CHUNK, Math.min(rows.size(), (chunk + 1) * ROWS_PER_CHUNK)))
+                .collect(Collectors.toList());
+            result = chunks.get(0);
+            for (int i = 1; i < chunks.size(); i++) {
+                for (Map.Entry<List<Object>, Group> entry : chunks.get(i).entrySet()) {
+                    Group group = result.get(entry.getKey());
+                    if (group == null) {
+                        result.put(entry.getKey(), entry.getValue());
+                    } else {
+                        mergeGroup(group, entry.getValue());
+                    }
+                }
+            }
+        }
+        List<Group> groups = new ArrayList<>(result.values());
+        if (duplicatesOnly) {
+            groups.removeIf(group -> group.counts[0] <= 1);
+        }
+        if (sortDescending != null && functions.length > 0) {
+            int funcIndex = functions.length - 1;
+            Comparator<Group> comparator = (g1, g2) -> DBUtils.compareDataValues(getFunctionResult(g1, funcIndex), getFunctionResult(g2, funcIndex));
+            groups.sort(sortDescending ? comparator.reversed() : comparator);
+        }
+        return groups;
+    }
+
+    private Map<List<Object>, Group> aggregateRows(int fromRow, int toRow) {
+        Map<List<Object>, Group> groups = new LinkedHashMap<>();
+        for (int i = fromRow; i < toRow; i++) {
+            ResultSetRow row = rows.get(i);
+            Object[] key = new Object[groupAttributes.length];
+            for (int k = 0; k < key.length; k++) {
+                key[k] = normalizeKeyValue(model.getCellValue(groupAttributes[k], row));
+            }
+            Group group = groups.computeIfAbsent(Arrays.asList(key), k -> new Group(key, functions.length));
+            for (int f = 0; f < functions.length; f++) {
+                GroupFunction function = functions[f];
+                if (function.attribute == null) {
+                    group.counts[f]++;
+                    continue;
+                }
+                Object value = model.getCellValue(function.attribute, row);
+                if (DBUtils.isNullValue(value)) {
+                    continue;
+                }
+                switch (function.type) {
+                    case COUNT:
+                        group.counts[f]++;
+                        break;
+                    case SUM:
+                    case AVG:
+                        if (value instanceof Number) {
+                            group.sums[f] = addNumbers(group.sums[f], (Number) value);
+                            group.counts[f]++;
+                        }
+                        break;
+                    case MIN:
+                        if (group.extremes[f] == null || DBUtils.compareDataValues(value, group.extremes[f]) < 0) {
+                            group.extremes[f] = value;
+                        }
+                        break;
+                    case MAX:
+                        if (group.extremes[f] == null || DBUtils.compareDataValues(value, group.extremes[f]) > 0) {
+                            group.extremes[f] = value;
+                        }
+                        break;
+                }
+            }
+        }
+        return groups;
+    }
+
+    private void mergeGroup(Group target, Group source) {
+        for (int f = 0; f < functions.length; f++) {
+            target.counts[f] += source.counts[f];
+            if (source.sums[f] != null) {
+                target.sums[f] = addNumbers(target.sums[f], source.sums[f]);
+            }
+            Object value = source.extremes[f];
+            if (value != null) {
+                int cmp = target.extremes[f] == null ? 0 : DBUtils.compareDataValues(value, target.extremes[f]);
+                if (target.extremes[f] == null ||
+                    (functions[f].type == FunctionType.MIN && cmp < 0) ||
+                    (functions[f].type == FunctionType.MAX && cmp > 0))
+                {
+                    target.extremes[f] = value;
+                }
+            }
+        }
+    }
+
+    private Object[] makeResultRow(Group group) {
+        Object[] row = new Object[groupAttributes.length + functions.length];
+        System.arraycopy(group.key, 0, row, 0, group.key.length);
+        for (int f = 0; f < functions.length; f++) {
+            row[groupAttributes.length + f] = getFunctionResult(group, f);
+        }
+        return row;
+    }
+
+    @Nullable
+    private Object getFunctionResult(Group group, int index) {
+        switch (functions[index].type) {
+            case COUNT:
+                return group.counts[index];
+            case SUM:
+                return group.counts[index] == 0 ? null : group.sums[index];
+            case AVG:
+                return group.counts[index] == 0 ? null : group.sums[index].doubleValue() / group.counts[index];
+            default:
+                return group.extremes[index];
+        }
+    }
+
+    /**
+     * Adds numbers keeping the type the database would return for SUM:
+     * integral values are summed as long (BigDecimal on overflow), decimals as BigDecimal, floating point values as double.
+     */
+    @NotNull
+    private static Number addNumbers(@Nullable Number sum, @NotNull Number value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            value = value.longValue();
+        } else if (value instanceof Float) {
+            value = value.doubleValue();
+        }
+        if (sum == null) {
+            return value;
+        }
+        if (sum instanceof Double || value instanceof Double) {
+            return sum.doubleValue() + value.doubleValue();
+        }
+        if (sum instanceof Long && value instanceof Long) {
+            try {
+                return Math.addExact(sum.longValue(), value.longValue());
+            } catch (ArithmeticException e) {
+                // Overflow, continue with BigDecimal
+            }
+        }
+        return toBigDecimal(sum).add(toBigDecimal(value));
+    }
+
+    @NotNull
+    private static BigDecimal toBigDecimal(@NotNull Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Long) {
+            return BigDecimal.valueOf(value.longValue());
+        } else {
+            return new BigDecimal(value.toString());
+        }
+    }
+
+    private static Object normalizeKeyValue(Object value) {
+        // All nulls (including DBDValue nulls) form a single group
+        return DBUtils.isNullValue(value) ? null : value;
+    }
+
+}
@@ -192,6 +192,7 @@ public class GroupingResultsContainer implements IResultSetContainer {
         groupingViewer.resetHistory();
         dataContainer.setGroupingQuery(null);
         dataContainer.setGroupingAttributes(null);
+        dataContainer.setLocalAggregator(null);
         if (!(groupingViewer.getActivePresentation() instanceof EmptyPresentation)) {
             groupingViewer.showEmptyPresentation();
         }
@@ -203,9 +204,6 @@ public class GroupingResultsContainer implements IResultSetContainer {
             return;
         }
         DBCStatistics statistics = presentation.getController().getModel().getStatistics();
-        if (statistics == null) {
-            throw new DBException("No main query - can't perform grouping");
-        }
         DBSDataContainer dbsDataContainer = presentation.getController().getDataContainer();
         boolean isCustomQuery = !(dbsDataContainer instanceof DBSEntity);
         DBPDataSource dataSource = dataContainer.getDataSource();
@@ -213,14 +211,46 @@ public class GroupingResultsContainer implements IResultSetContainer {
             throw new DBException("No active datasource");
         }
         SQLDialect dialect = SQLUtils.getDialectFromDataSource(dataSource);
+        String queryText = statistics == null ? null : statistics.getQueryText();
+        boolean isShowDuplicatesOnly = dataSource.getContainer().getPreferenceStore().getBoolean(ResultSetPreferences.RS_GROUPING_SHOW_DUPLICATES_ONLY);
+        boolean isDefaultGrouping = groupFunctions.size() == 1 && groupFunctions.get(0).equalsIgnoreCase(getDefaultFunction());
+        String defaultSorting = dataSource.getContainer().getPreferenceStore().getString(ResultSetPreferences.RS_GROUPING_DEFAULT_SORTING);
+
+        // Group fetched rows in memory if all of them are already here or if the source query can't be re-executed
+        GroupingLocalAggregator localAggregator = null;
+        boolean canGroupOnServer = statistics != null && isGroupingQuerySupported(dialect, dbsDataContainer, queryText);
+        if (!presentation.getController().isHasMoreData() || !canGroupOnServer) {
+            localAggregator = GroupingLocalAggregator.create(
+                presentation.getController().getModel(),
+                dataSource,
+                groupAttributes,
+                groupFunctions,
+                isShowDuplicatesOnly,
+                isDefaultGrouping ? defaultSorting : null);
+        }
+        if (localAggregator == null && !canGroupOnServer) {
+            throw new DBException("No main query - can't perform grouping");
+        }
+        dataContainer.setLocalAggregator(localAggregator);
+        dataContainer.setGroupingAttributes(groupAttributes.toArray(String[]::new));
+
+        if (localAggregator != null) {
+            dataContainer.setGroupingQuery(null);
+            DataEditorFeatures.RESULT_SET_PANEL_GROUPING.use(Map.of(
+                "custom", isCustomQuery,
+                "default", isDefaultGrouping,
+                "dups", isShowDuplicatesOnly,
+                "local", true));
+            // Sorting and filtering are performed on client side
+            groupingViewer.setDataFilter(new DBDDataFilter(), true);
+            return;
+        }
+
         SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
         syntaxManager.init(dialect, presentation.getController().getPreferenceStore());
-        String queryText = statistics.getQueryText();
-        boolean isShowDuplicatesOnly = dataSource.getContainer().getPreferenceStore().getBoolean(ResultSetPreferences.RS_GROUPING_SHOW_DUPLICATES_ONLY);
 
         var groupingQueryGenerator = new SQLGroupingQueryGenerator(dataSource, dbsDataContainer, dialect, syntaxManager, groupAttributes, groupFunctions, isShowDuplicatesOnly);
         dataContainer.setGroupingQuery(groupingQueryGenerator.generateGroupingQuery(queryText));
-        dataContainer.setGroupingAttributes(groupAttributes.toArray(String[]::new));
         DBDDataFilter dataFilter;
         if (presentation.getController().getModel().isMetadataChanged()) {
             dataFilter = new DBDDataFilter();
@@ -228,8 +258,6 @@ public class GroupingResultsContainer implements IResultSetContainer {
             dataFilter = new DBDDataFilter(groupingViewer.getModel().getDataFilter());
         }
 
-        boolean isDefaultGrouping = groupFunctions.size() == 1 && groupFunctions.get(0).equalsIgnoreCase(getDefaultFunction());
-        String defaultSorting = dataSource.getContainer().getPreferenceStore().getString(ResultSetPreferences.RS_GROUPING_DEFAULT_SORTING);
         if (!CommonUtils.isEmpty(defaultSorting) && isDefaultGrouping) {
             if (false/*dialect.supportsOrderByIndex()*/) {
                 // By default sort by count in desc order
@@ -253,6 +281,17 @@ public class GroupingResultsContainer implements IResultSetContainer {
         //groupingViewer.refresh();
     }
 
+    private static boolean isGroupingQuerySupported(SQLDialect dialect, DBSDataContainer container, String queryText) {
+        if (container instanceof DBSEntity) {
+            return true;
+        }
+        if (CommonUtils.isEmptyTrimmed(queryText) || SQLUtils.isExecQuery(dialect, queryText)) {
+            return false;
+        }
+        String firstKeyword = SQLUtils.getFirstKeyword(dialect, queryText);
+        return SQLConstants.KEYWORD_SELECT.equalsIgnoreCase(firstKeyword) || "WITH".equalsIgnoreCase(firstKeyword);
+    }
+
     void setGrouping(List<String> attributes, List<String> functions) {
         groupAttributes.clear();
         addGroupingAttributes(attributes);
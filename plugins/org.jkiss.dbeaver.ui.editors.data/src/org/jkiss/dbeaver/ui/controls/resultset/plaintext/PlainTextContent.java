@@ -0,0 +1,264 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.plaintext;
+
+import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.custom.TextChangeListener;
+import org.eclipse.swt.custom.TextChangedEvent;
+import org.eclipse.swt.custom.TextChangingEvent;
+import org.jkiss.code.NotNull;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Read-only text content for the plain text presentation.
+ * Grid rows are not stored as text: each row line has the same length, so offsets are calculated
+ * and row lines are formatted only when StyledText asks for them (i.e. for visible lines).
+ */
+class PlainTextContent implements StyledTextContent {
+
+    private static final String LINE_DELIMITER = "\n";
+    private static final int MAX_CACHED_LINES = 1000;
+
+    private final Set<TextChangeListener> textListeners = new LinkedHashSet<>();
+
+    private List<String> headLines = Collections.singletonList("");
+    private int[] headOffsets = {0, 1};
+    private List<String> tailLines = Collections.emptyList();
+    private int[] tailOffsets = {0};
+    private int rowCount;
+    private int rowLength;
+    private IntFunction<String> rowPrinter;
+
+    private final Map<Integer, String> rowCache = new LinkedHashMap<>(MAX_CACHED_LINES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+            return size() > MAX_CACHED_LINES;
+        }
+    };
+
+    /**
+     * Sets grid content.
+     *
+     * @param header     header lines, each line is terminated with line feed
+     * @param footer     footer lines, each line is terminated with line feed
+     * @param rowCount   number of row lines between header and footer
+     * @param rowLength  length of each row line
+     * @param rowPrinter prints row line by row index
+     */
+    void setGrid(@NotNull String header, @NotNull String footer, int rowCount, int rowLength, @NotNull IntFunction<String> rowPrinter) {
+        setLines(splitLines(header, true), splitLines(footer, true), rowCount, rowLength, rowPrinter);
+        fireTextSet();
+    }
+
+    @Override
+    public void setText(String text) {
+        setLines(splitLines(text, false), Collections.emptyList(), 0, 0, null);
+        fireTextSet();
+    }
+
+    private void setLines(List<String> head, List<String> tail, int rowCount, int rowLength, IntFunction<String> rowPrinter) {
+        if (head.isEmpty() && rowCount == 0 && tail.isEmpty()) {
+            head = Collections.singletonList("");
+        }
+        this.headLines = head;
+        this.headOffsets = calculateOffsets(head);
+        this.tailLines = tail;
+        this.tailOffsets = calculateOffsets(tail);
+        this.rowCount = rowCount;
+        this.rowLength = rowLength;
+        this.rowPrinter = rowPrinter;
+        this.rowCache.clear();
+    }
+
+    @Override
+    public void addTextChangeListener(TextChangeListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Cannot add a null listener");
+        textListeners.add(listener);
+    }
+
+    @Override
+    public void removeTextChangeListener(TextChangeListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Cannot remove a null listener");
+        textListeners.remove(listener);
+    }
+
+    @Override
+    public int getCharCount() {
+        // Last line has no delimiter
+        return getTailStart() + tailOffsets[tailLines.size()] - LINE_DELIMITER.length();
+    }
+
+    @Override
+    public int getLineCount() {
+        return headLines.size() + rowCount + tailLines.size();
+    }
+
+    @Override
+    public String getLine(int lineIndex) {
+        if (lineIndex < headLines.size()) {
+            return headLines.get(lineIndex);
+        }
+        lineIndex -= headLines.size();
+        if (lineIndex < rowCount) {
+            return getRowLine(lineIndex);
+        }
+        return tailLines.get(lineIndex - rowCount);
+    }
+
+    @Override
+    public int getLineAtOffset(int offset) {
+        int rowsStart = getRowsStart();
+        int lineIndex;
+        if (offset < rowsStart) {
+            lineIndex = findLine(headOffsets, offset);
+        } else if (offset < getTailStart()) {
+            lineIndex = headLines.size() + (offset - rowsStart) / (rowLength + LINE_DELIMITER.length());
+        } else {
+            lineIndex = headLines.size() + rowCount + findLine(tailOffsets, offset - getTailStart());
+        }
+        return Math.min(lineIndex, getLineCount() - 1);
+    }
+
+    @Override
+    public String getLineDelimiter() {
+        return LINE_DELIMITER;
+    }
+
+    @Override
+    public int getOffsetAtLine(int lineIndex) {
+        if (lineIndex <= headLines.size()) {
+            return headOffsets[lineIndex];
+        }
+        lineIndex -= headLines.size();
+        if (lineIndex <= rowCount) {
+            return getRowsStart() + lineIndex * (rowLength + LINE_DELIMITER.length());
+        }
+        return getTailStart() + tailOffsets[lineIndex - rowCount];
+    }
+
+    @Override
+    public String getTextRange(int start, int length) {
+        if (length <= 0) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(length);
+        int end = start + length;
+        int lineCount = getLineCount();
+        for (int lineIndex = getLineAtOffset(start); lineIndex < lineCount; lineIndex++) {
+            int lineStart = getOffsetAtLine(lineIndex);
+            if (lineStart >= end) {
+                break;
+            }
+            String line = getLine(lineIndex);
+            if (lineIndex < lineCount - 1) {
+                line += LINE_DELIMITER;
+            }
+            result.append(line, Math.max(0, start - lineStart), Math.min(line.length(), end - lineStart));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public void replaceTextRange(int start, int replaceLength, String text) {
+        // Presentation is read-only, so just materialize the whole text
+        String oldText = getTextRange(0, getCharCount());
+        TextChangingEvent event = new TextChangingEvent(this);
+        event.start = start;
+        event.newText = text;
+        event.replaceCharCount = replaceLength;
+        event.newCharCount = text.length();
+        event.replaceLineCount = countLines(oldText.substring(start, start + replaceLength));
+        event.newLineCount = countLines(text);
+        for (TextChangeListener listener : textListeners) {
+            listener.textChanging(event);
+        }
+        setLines(
+            splitLines(oldText.substring(0, start) + text + oldText.substring(start + replaceLength), false),
+            Collections.emptyList(), 0, 0, null);
+        TextChangedEvent changedEvent = new TextChangedEvent(this);
+        for (TextChangeListener listener : textListeners) {
+            listener.textChanged(changedEvent);
+        }
+    }
+
+    private String getRowLine(int rowIndex) {
+        String line = rowCache.get(rowIndex);
+        if (line == null) {
+            line = rowPrinter.apply(rowIndex);
+            // All row lines must have the same length, otherwise offsets will be broken
+            if (line.length() > rowLength) {
+                line = line.substring(0, rowLength);
+            } else if (line.length() < rowLength) {
+                line = line + " ".repeat(rowLength - line.length());
+            }
+            rowCache.put(rowIndex, line);
+        }
+        return line;
+    }
+
+    private int getRowsStart() {
+        return headOffsets[headLines.size()];
+    }
+
+    private int getTailStart() {
+        return getRowsStart() + rowCount * (rowLength + LINE_DELIMITER.length());
+    }
+
+    private void fireTextSet() {
+        TextChangedEvent event = new TextChangedEvent(this);
+        for (TextChangeListener listener : textListeners) {
+            listener.textSet(event);
+        }
+    }
+
+    private static int findLine(int[] offsets, int offset) {
+        // Offsets array has one extra element (end of the last line)
+        int index = Arrays.binarySearch(offsets, 0, offsets.length - 1, offset);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    private static int[] calculateOffsets(List<String> lines) {
+        int[] offsets = new int[lines.size() + 1];
+        for (int i = 0; i < lines.size(); i++) {
+            offsets[i + 1] = offsets[i] + lines.get(i).length() + LINE_DELIMITER.length();
+        }
+        return offsets;
+    }
+
+    private static List<String> splitLines(String text, boolean terminated) {
+        List<String> lines = new ArrayList<>(Arrays.asList(text.split("\\r\\n|\\r|\\n", -1)));
+        if (terminated) {
+            // Text ends with line feed, last element is empty
+            lines.remove(lines.size() - 1);
+        }
+        return lines;
+    }
+
+    private static int countLines(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 >= text.length() || text.charAt(i + 1) != '\n'))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -84,33 +84,75 @@ public class PlainTextFormatter {
     public int printGrid(StringBuilder grid, ResultSetModel model) {
         List<DBDAttributeBinding> attrs = model.getVisibleAttributes();
         List<ResultSetRow> allRows = model.getAllRows();
-        int extraSpacesNum = extraSpaces ? 2 : 0;
         if (colWidths == null) {
-            // Calculate column widths
-            colWidths = new int[attrs.size()];
-            if (!attrs.isEmpty() && lineNumbers) {
-                startOffset = getStringWidth(String.valueOf(allRows.size() + 1)) + extraSpacesNum + 1;
-            } else {
-                startOffset = 0;
+            calculateColumnWidths(model, attrs, allRows, allRows.size());
+        }
+
+        printGridHeader(grid, attrs);
+
+        // Print rows
+        int i = 1;
+        for (ResultSetRow row : allRows) {
+            printGridRow(grid, model, attrs, row, i);
+            grid.append("\n");
+            i++;
+        }
+        printGridFooter(grid);
+        grid.setLength(grid.length() - 1); // cut last line feed
+        return allRows.size();
+    }
+
+    /**
+     * Calculates column widths. If there are more rows than {@code maxSampleRows} then only
+     * evenly distributed sample of rows is used, longer values will be truncated.
+     */
+    public void calculateColumnWidths(
+        @NotNull ResultSetModel model,
+        @NotNull List<DBDAttributeBinding> attrs,
+        @NotNull List<ResultSetRow> rows,
+        int maxSampleRows
+    ) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
+        int rowCount = rows.size();
+        int sampleSize = Math.min(rowCount, Math.max(maxSampleRows, 1));
+        colWidths = new int[attrs.size()];
+        if (!attrs.isEmpty() && lineNumbers) {
+            startOffset = getStringWidth(String.valueOf(rowCount + 1)) + extraSpacesNum + 1;
+        } else {
+            startOffset = 0;
+        }
+        for (int i = 0; i < attrs.size(); i++) {
+            DBDAttributeBinding attr = attrs.get(i);
+            colWidths[i] = getAttributeName(attr).length() + extraSpacesNum;
+            if (showNulls && !attr.isRequired()) {
+                colWidths[i] = Math.max(colWidths[i], DBConstants.NULL_VALUE_LABEL.length());
             }
-            for (int i = 0; i < attrs.size(); i++) {
-                DBDAttributeBinding attr = attrs.get(i);
-                colWidths[i] = getAttributeName(attr).length() + extraSpacesNum;
-                if (showNulls && !attr.isRequired()) {
-                    colWidths[i] = Math.max(colWidths[i], DBConstants.NULL_VALUE_LABEL.length());
-                }
-                for (ResultSetRow row : allRows) {
-                    String displayString = this.getCellString(model, attr, row, displayFormat);
-                    colWidths[i] = Math.max(colWidths[i], getStringWidth(displayString) + extraSpacesNum);
-                }
+            for (int k = 0; k < sampleSize; k++) {
+                ResultSetRow row = rows.get(sampleSize == rowCount ? k : (int) ((long) k * rowCount / sampleSize));
+                String displayString = this.getCellString(model, attr, row, displayFormat);
+                colWidths[i] = Math.max(colWidths[i], getStringWidth(displayString) + extraSpacesNum);
             }
-            for (int i = 0; i < colWidths.length; i++) {
-                if (colWidths[i] > maxColumnSize) {
-                    colWidths[i] = maxColumnSize;
-                }
+        }
+        for (int i = 0; i < colWidths.length; i++) {
+            if (colWidths[i] > maxColumnSize) {
+                colWidths[i] = maxColumnSize;
             }
         }
+    }
+
+    /**
+     * Length of separator and row lines printed with current column widths
+     */
+    public int getGridLineLength() {
+        int length = (delimLeading ? 1 : 0) + (delimTrailing ? 1 : 0) + Math.max(0, startOffset - 1);
+        for (int i = 0; i < colWidths.length; i++) {
+            length += (i > 0 || startOffset != 0 ? 1 : 0) + Math.max(0, colWidths[i]);
+        }
+        return length;
+    }
 
+    public void printGridHeader(StringBuilder grid, List<DBDAttributeBinding> attrs) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
         if (delimTop) {
             // Print divider before header
             this.printSeparator(grid, colWidths);
@@ -150,64 +192,66 @@ public class PlainTextFormatter {
 
         // Print divider
         this.printSeparator(grid, colWidths);
+    }
 
-        // Print rows
-        int i = 1;
-        for (ResultSetRow row : allRows) {
-            if (delimLeading) {
+    /**
+     * Prints single row line (without line feed)
+     */
+    public void printGridRow(StringBuilder grid, ResultSetModel model, List<DBDAttributeBinding> attrs, ResultSetRow row, int rowNumber) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
+        if (delimLeading) {
+            grid.append("|");
+        }
+        if (lineNumbers) {
+            if (extraSpaces) {
+                grid.append(" ");
+            }
+            String displayNumber = String.valueOf(rowNumber);
+            grid.append(displayNumber);
+            int stringWidth = getStringWidth(displayNumber);
+            grid.append(" ".repeat(Math.max(0, startOffset - stringWidth - extraSpacesNum - 1)));
+            if (extraSpaces) {
+                grid.append(" ");
+            }
+        }
+        for (int k = 0; k < attrs.size(); k++) {
+            if (k > 0 || startOffset != 0) {
                 grid.append("|");
             }
-            if (lineNumbers) {
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
-                String displayNumber = String.valueOf(i);
-                grid.append(displayNumber);
-                int stringWidth = getStringWidth(displayNumber);
-                grid.append(" ".repeat(Math.max(0, startOffset - stringWidth - extraSpacesNum - 1)));
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
+            DBDAttributeBinding attr = attrs.get(k);
+            String displayString = this.getCellString(model, attr, row, displayFormat);
+            int maxLength = Math.max(0, colWidths[k] - extraSpacesNum);
+            if (displayString.length() > maxLength) {
+                displayString = CommonUtils.truncateString(displayString, maxLength);
             }
-            for (int k = 0; k < attrs.size(); k++) {
-                if (k > 0 || startOffset != 0) {
-                    grid.append("|");
-                }
-                DBDAttributeBinding attr = attrs.get(k);
-                String displayString = this.getCellString(model, attr, row, displayFormat);
-                if (displayString.length() >= colWidths[k]) {
-                    displayString = CommonUtils.truncateString(displayString, colWidths[k]);
-                }
 
-                int stringWidth = getStringWidth(displayString);
+            int stringWidth = getStringWidth(displayString);
 
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
-                DBPDataKind dataKind = attr.getDataKind();
-                if ((dataKind == DBPDataKind.NUMERIC && rightJustifyNumbers)
-                    || (dataKind == DBPDataKind.DATETIME && rightJustifyDateTime)) {
-                    // Right justify value
-                    grid.append(" ".repeat(Math.max(0, colWidths[k] - stringWidth - extraSpacesNum))).append(displayString);
-                } else {
-                    grid.append(displayString).append(" ".repeat(Math.max(0, colWidths[k] - stringWidth - extraSpacesNum)));
-                }
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
+            if (extraSpaces) {
+                grid.append(" ");
             }
-            if (delimTrailing) {
-                grid.append("|");
+            DBPDataKind dataKind = attr.getDataKind();
+            if ((dataKind == DBPDataKind.NUMERIC && rightJustifyNumbers)
+                || (dataKind == DBPDataKind.DATETIME && rightJustifyDateTime)) {
+                // Right justify value
+                grid.append(" ".repeat(Math.max(0, colWidths[k] - stringWidth - extraSpacesNum))).append(displayString);
+            } else {
+                grid.append(displayString).append(" ".repeat(Math.max(0, colWidths[k] - stringWidth - extraSpacesNum)));
             }
-            grid.append("\n");
-            i++;
+            if (extraSpaces) {
+                grid.append(" ");
+            }
+        }
+        if (delimTrailing) {
+            grid.append("|");
         }
+    }
+
+    public void printGridFooter(StringBuilder grid) {
         if (delimBottom) {
             // Print divider after rows
             this.printSeparator(grid, colWidths);
         }
-        grid.setLength(grid.length() - 1); // cut last line feed
-        return allRows.size();
     }
 
     public String getCellString(ResultSetModel model, DBDAttributeBinding attr, ResultSetRow row, DBDDisplayFormat displayFormat) {
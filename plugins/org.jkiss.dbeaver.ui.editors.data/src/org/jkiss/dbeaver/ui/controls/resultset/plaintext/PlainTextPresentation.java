@@ -52,6 +52,7 @@ import org.jkiss.dbeaver.ui.controls.StyledTextFindReplaceTarget;
 import org.jkiss.dbeaver.ui.controls.resultset.*;
 import org.jkiss.dbeaver.ui.editors.TextEditorUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -64,8 +65,11 @@ import java.util.Map;
 public class PlainTextPresentation extends AbstractPresentation implements IResultSetDisplayFormatProvider, DBPAdaptable {
 
     public static final int FIRST_ROW_LINE = 2;
+    // Column widths are calculated from a sample of rows, so text view opens instantly for big result sets
+    private static final int MAX_WIDTH_SAMPLE_ROWS = 1000;
 
     private StyledText text;
+    private PlainTextContent textContent;
     private DBDAttributeBinding curAttribute;
     private StyledTextFindReplaceTarget findReplaceTarget;
     public boolean activated;
@@ -83,6 +87,8 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
 
         UIUtils.createHorizontalLine(parent);
         text = new StyledText(parent, SWT.READ_ONLY | SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+        textContent = new PlainTextContent();
+        text.setContent(textContent);
         text.setBlockSelection(true);
         text.setCursor(parent.getDisplay().getSystemCursor(SWT.CURSOR_IBEAM));
         text.setMargins(4, 4, 4, 4);
@@ -215,19 +221,37 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
     }
 
     private void printGrid(boolean append) {
-        StringBuilder grid = new StringBuilder(512);
-
         PlainTextFormatter formatter = new PlainTextFormatter(getController().getPreferenceStore());
         ResultSetModel model = controller.getModel();
-        totalRows = formatter.printGrid(grid, model);
+        // Model may change before the next refresh, while row lines are printed lazily
+        List<DBDAttributeBinding> attrs = new ArrayList<>(model.getVisibleAttributes());
+        List<ResultSetRow> rows = new ArrayList<>(model.getAllRows());
+        formatter.calculateColumnWidths(model, attrs, rows, MAX_WIDTH_SAMPLE_ROWS);
+        totalRows = rows.size();
         colWidths = formatter.getColWidths();
         startOffset = formatter.getStartOffset();
 
+        StringBuilder header = new StringBuilder(512);
+        formatter.printGridHeader(header, attrs);
+        StringBuilder footer = new StringBuilder();
+        formatter.printGridFooter(footer);
+        StringBuilder rowLine = new StringBuilder(512);
+
         final int topIndex = text.getTopIndex();
         final int horizontalIndex = text.getHorizontalIndex();
         final int caretOffset = text.getCaretOffset();
 
-        text.setText(grid.toString());
+        // Only visible row lines are formatted
+        textContent.setGrid(
+            header.toString(),
+            footer.toString(),
+            rows.size(),
+            formatter.getGridLineLength(),
+            rowIndex -> {
+                rowLine.setLength(0);
+                formatter.printGridRow(rowLine, model, attrs, rows.get(rowIndex), rowIndex + 1);
+                return rowLine.toString();
+            });
 
         if (append) {
             // Restore scroll and caret position
@@ -380,6 +380,7 @@ public class Spreadsheet extends LightGrid implements Listener {
         accessibilityEnabled = false;
         // Cancel all editors
         cancelInlineEditor();
+        presentation.resetCellTextCache();
 
         super.refreshData(refreshColumns, keepState, fitValue);
         super.redraw();
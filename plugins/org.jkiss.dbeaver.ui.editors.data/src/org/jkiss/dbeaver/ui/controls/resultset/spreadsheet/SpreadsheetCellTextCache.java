@@ -0,0 +1,89 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.spreadsheet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of formatted cell display strings.
+ * Each column keeps a bounded LRU map of rows. Cached text is valid while the cell value (compared by identity)
+ * and the row state are the same, so edited cells are re-formatted automatically.
+ * The whole cache must be reset when formatting settings change.
+ */
+class SpreadsheetCellTextCache {
+
+    private static final int MAX_COLUMN_ENTRIES = 2000;
+
+    private static class CachedText {
+        final Object value;
+        final byte rowState;
+        final String text;
+
+        CachedText(Object value, byte rowState, String text) {
+            this.value = value;
+            this.rowState = rowState;
+            this.text = text;
+        }
+    }
+
+    private static class ColumnCache extends LinkedHashMap<ResultSetRow, CachedText> {
+        ColumnCache() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ResultSetRow, CachedText> eldest) {
+            return size() > MAX_COLUMN_ENTRIES;
+        }
+    }
+
+    private final Map<DBDAttributeBinding, ColumnCache> columns = new IdentityHashMap<>();
+
+    @Nullable
+    String getText(@NotNull DBDAttributeBinding attr, @NotNull ResultSetRow row, @Nullable Object value) {
+        ColumnCache columnCache = columns.get(attr);
+        if (columnCache == null) {
+            return null;
+        }
+        CachedText cachedText = columnCache.get(row);
+        if (cachedText == null) {
+            return null;
+        }
+        if (cachedText.value != value || cachedText.rowState != row.getState()) {
+            columnCache.remove(row);
+            return null;
+        }
+        return cachedText.text;
+    }
+
+    void putText(@NotNull DBDAttributeBinding attr, @NotNull ResultSetRow row, @Nullable Object value, @NotNull String text) {
+        columns.computeIfAbsent(attr, a -> new ColumnCache())
+            .put(row, new CachedText(value, row.getState(), text));
+    }
+
+    void clear() {
+        columns.clear();
+    }
+
+}
@@ -164,6 +164,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     private boolean colorizeDataTypes = true;
     private final Map<DBPDataKind, Color> dataTypesForegrounds = new IdentityHashMap<>();
     private DBDDisplayFormat gridValueFormat;
+    private final SpreadsheetCellTextCache cellTextCache = new SpreadsheetCellTextCache();
 
     public Spreadsheet getSpreadsheet() {
         return spreadsheet;
@@ -240,6 +241,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     public void dispose() {
         closeEditors();
         clearMetaData();
+        cellTextCache.clear();
 
         UIUtils.dispose(this.cellHeaderSelectionBackground);
         super.dispose();
@@ -1387,10 +1389,11 @@ public class SpreadsheetPresentation extends AbstractPresentation
         this.spreadsheet.setLineColor(colorRegistry.get(ThemeConstants.COLOR_SQL_RESULT_LINES_NORMAL));
         this.spreadsheet.setLineSelectedColor(colorRegistry.get(ThemeConstants.COLOR_SQL_RESULT_LINES_SELECTED));
 
-        this.spreadsheet.recalculateSizes(true);
-
         this.booleanStyles = BooleanStyleSet.getDefaultStyles(getPreferenceStore());
 
+        resetCellTextCache();
+        this.spreadsheet.recalculateSizes(true);
+
         this.colorizeDataTypes = getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_COLORIZE_DATA_TYPES);
 
         this.dataTypesForegrounds.put(DBPDataKind.BINARY, colorRegistry.get(ThemeConstants.COLOR_SQL_RESULT_BINARY_FOREGROUND));
@@ -2229,6 +2232,23 @@ public class SpreadsheetPresentation extends AbstractPresentation
 
         @Nullable
         private Object formatValue(DBDAttributeBinding attr, ResultSetRow row, Object value) {
+            if (attr == null || row == null || value instanceof DBDValue) {
+                // Complex values may be changed in place, do not cache them
+                return formatCellValue(attr, row, value);
+            }
+            String cachedText = cellTextCache.getText(attr, row, value);
+            if (cachedText != null) {
+                return cachedText;
+            }
+            Object text = formatCellValue(attr, row, value);
+            if (text instanceof String) {
+                cellTextCache.putText(attr, row, value, (String) text);
+            }
+            return text;
+        }
+
+        @Nullable
+        private Object formatCellValue(DBDAttributeBinding attr, ResultSetRow row, Object value) {
             if (DBUtils.isNullValue(value) && row.getState() == ResultSetRow.STATE_ADDED) {
                 // New row and no value. Let's try to show default value
                 DBSEntityAttribute entityAttribute = attr.getEntityAttribute();
@@ -2570,6 +2590,13 @@ public class SpreadsheetPresentation extends AbstractPresentation
         return nestedIndexes;
     }
 
+    /**
+     * Resets cached cell texts. Called on each grid data refresh (new data, formatting settings change).
+     */
+    void resetCellTextCache() {
+        cellTextCache.clear();
+    }
+
     private DBDDisplayFormat getValueRenderFormat(DBDAttributeBinding attr, Object value) {
         if (value instanceof Number && useNativeNumbersFormat) {
             return DBDDisplayFormat.NATIVE;
@@ -2585,6 +2612,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     @Override
     public void setDefaultDisplayFormat(DBDDisplayFormat displayFormat) {
         this.gridValueFormat = displayFormat;
+        resetCellTextCache();
         getPreferenceStore().setValue(ResultSetPreferences.RESULT_GRID_VALUE_FORMAT, this.gridValueFormat.name());
     }
 
@@ -20,6 +20,7 @@ import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IContributionManager;
 import org.eclipse.swt.SWT;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
@@ -27,7 +28,9 @@ import org.jkiss.dbeaver.model.DBPEventListener;
 import org.jkiss.dbeaver.model.DBValueFormatting;
 import org.jkiss.dbeaver.model.data.DBDContent;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
+import org.jkiss.dbeaver.model.data.DBDContentStorageLocal;
 import org.jkiss.dbeaver.model.data.storage.BytesContentStorage;
+import org.jkiss.dbeaver.model.data.storage.TemporaryContentStorage;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceListener;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
@@ -43,9 +46,13 @@ import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 /**
@@ -55,6 +62,9 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
 
     private static final Log log = Log.getLog(BinaryPanelEditor.class);
 
+    // Bigger values are kept in files and read by pages instead of loading them in memory
+    private static final long MAX_IN_MEMORY_LENGTH = 1024 * 1024;
+
     @Override
     public HexEditControl createControl(IValueController valueController) {
         HexEditControl hControl = new HexEditControl(valueController.getEditPlaceholder(), SWT.BORDER | SWT.READ_ONLY);
@@ -91,6 +101,23 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
         try {
             DBDContentStorage data = value.getContents(monitor);
             String charset = null;
+            if (data != null) {
+                File contentFile = getContentFile(monitor, data);
+                if (contentFile != null) {
+                    String fileCharset = data.getCharset();
+                    // Temporary copy belongs to the editor
+                    boolean deleteOnDispose = !(data instanceof DBDContentStorageLocal);
+                    UIUtils.syncExec(() -> {
+                        try {
+                            control.setContent(contentFile, fileCharset, deleteOnDispose, false);
+                        } catch (IOException e) {
+                            log.error("Error opening binary value file", e);
+                        }
+                        control.setReadOnly(value.getDataSource().getContainer().isConnectionReadOnly());
+                    });
+                    return;
+                }
+            }
             monitor.subTask("Read binary value");
             ByteArrayOutputStream buffer = new ByteArrayOutputStream();
             if (data != null) {
@@ -106,6 +133,7 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
             BinaryContent content = control.getContent();
             if (content != null && content.length() == byteData.length) {
                 ByteBuffer byteBuffer = ByteBuffer.allocate(byteData.length);
+                content.get(byteBuffer, 0);
                 if (Arrays.equals(byteBuffer.array(), byteData)) {
                     // Equals data
                     return;
@@ -126,7 +154,21 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
     public void extractEditorValue(@NotNull DBRProgressMonitor monitor, @NotNull HexEditControl control, @NotNull DBDContent value) throws DBException
     {
         BinaryContent binaryContent = control.getContent();
-        if (binaryContent != null) {
+        if (binaryContent != null && binaryContent.length() > MAX_IN_MEMORY_LENGTH) {
+            Path tempFile = null;
+            try {
+                tempFile = ContentUtils.createTempContentFile(monitor, DBWorkbench.getPlatform(), "binary" + binaryContent.hashCode());
+                binaryContent.get(tempFile.toFile());
+            } catch (IOException e) {
+                if (tempFile != null) {
+                    ContentUtils.deleteTempFile(tempFile);
+                }
+                throw new DBException("Error saving binary value", e);
+            }
+            value.updateContents(
+                monitor,
+                new TemporaryContentStorage(DBWorkbench.getPlatform(), tempFile, GeneralUtils.getDefaultFileEncoding(), true));
+        } else if (binaryContent != null) {
             ByteBuffer buffer = ByteBuffer.allocate((int) binaryContent.length());
             try {
                 binaryContent.get(buffer, 0);
@@ -139,6 +181,32 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
         }
     }
 
+    /**
+     * Returns file with value contents if value is too big to be loaded in memory.
+     * Local storage files are used as is, other contents are copied into a temporary file.
+     */
+    @Nullable
+    private static File getContentFile(@NotNull DBRProgressMonitor monitor, @NotNull DBDContentStorage data) throws IOException {
+        long contentLength = data.getContentLength();
+        if (contentLength >= 0 && contentLength <= MAX_IN_MEMORY_LENGTH) {
+            return null;
+        }
+        if (data instanceof DBDContentStorageLocal) {
+            return ((DBDContentStorageLocal) data).getDataFile().toFile();
+        }
+        monitor.subTask("Copy binary value into temporary file");
+        Path tempFile = ContentUtils.createTempContentFile(monitor, DBWorkbench.getPlatform(), "binary" + data.hashCode());
+        try (InputStream contentStream = data.getContentStream()) {
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                ContentUtils.copyStreams(contentStream, contentLength, os, monitor);
+            }
+        } catch (IOException e) {
+            ContentUtils.deleteTempFile(tempFile);
+            throw e;
+        }
+        return tempFile.toFile();
+    }
+
     @Override
     public void contributeActions(@NotNull IContributionManager manager, @NotNull final HexEditControl control) throws DBCException {
         manager.add(new Action("Switch Insert/Overwrite mode", DBeaverIcons.getImageDescriptor(UIIcon.CURSOR)) {
@@ -82,7 +82,7 @@ public class BinaryContent {
             this(aPosition, aFile.length());
             if (length < 0L) throw new IOException("File error");
 
-            data = new RandomAccessFile(aFile, "r");
+            data = new FileData(aFile);
             dirty = isDirty;
         }
 
@@ -124,6 +124,85 @@ public class BinaryContent {
     }
 
 
+    /**
+     * Read-only file data. File is read by fixed size pages and recently used pages are kept in memory,
+     * so repainting, scrolling and searching don't hit the file for the same blocks over and over.
+     */
+    static final class FileData implements Closeable {
+        private static final int PAGE_SIZE = 64 * 1024;
+        private static final int MAX_CACHED_PAGES = 64;  // 4Mb
+
+        private final RandomAccessFile file;
+        private final long length;
+        private final Map<Long, byte[]> pages = new LinkedHashMap<>(MAX_CACHED_PAGES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+                return size() > MAX_CACHED_PAGES;
+            }
+        };
+
+        FileData(File aFile)
+            throws IOException
+        {
+            file = new RandomAccessFile(aFile, "r");
+            length = file.length();
+        }
+
+        synchronized int read(long position)
+            throws IOException
+        {
+            if (position < 0 || position >= length) {
+                return -1;
+            }
+            return getPage(position / PAGE_SIZE)[(int) (position % PAGE_SIZE)] & 0x0ff;
+        }
+
+        synchronized int read(ByteBuffer dst, long position, int maxLength)
+            throws IOException
+        {
+            int total = (int) Math.max(0L, Math.min(Math.min(maxLength, dst.remaining()), length - position));
+            int read = 0;
+            while (read < total) {
+                long pagePosition = position + read;
+                byte[] page = getPage(pagePosition / PAGE_SIZE);
+                int pageOffset = (int) (pagePosition % PAGE_SIZE);
+                int count = Math.min(total - read, page.length - pageOffset);
+                dst.put(page, pageOffset, count);
+                read += count;
+            }
+            return read;
+        }
+
+        private byte[] getPage(long pageIndex)
+            throws IOException
+        {
+            byte[] page = pages.get(pageIndex);
+            if (page == null) {
+                long pageStart = pageIndex * PAGE_SIZE;
+                page = new byte[(int) Math.min(PAGE_SIZE, length - pageStart)];
+                ByteBuffer buffer = ByteBuffer.wrap(page);
+                FileChannel channel = file.getChannel();
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, pageStart + buffer.position()) < 0) {
+                        // File was truncated, the rest of page is zeroes
+                        break;
+                    }
+                }
+                pages.put(pageIndex, page);
+            }
+            return page;
+        }
+
+        @Override
+        public synchronized void close()
+            throws IOException
+        {
+            pages.clear();
+            file.close();
+        }
+    }
+
+
     private static final long mappedFileBufferLength = 2048 * 1024;  // for mapped file I/O
 
     private ActionHistory actions = null;  // undo/redo actions history
@@ -137,6 +216,7 @@ public class BinaryContent {
     private long changesPosition = -1L;
     private TreeSet<Range> ranges = new TreeSet<>();
     private Iterator<Range> tailTree = null;
+    private File tempFile = null;  // deleted on dispose
 
     /**
      * Create new empty content.
@@ -161,6 +241,21 @@ public class BinaryContent {
         ranges.add(new Range(0L, aFile, false));
     }
 
+    /**
+     * Create new content from a temporary file. File is deleted when content is disposed.
+     *
+     * @param aFile the backing content provider
+     * @throws IOException when i/o problems occur. The content will be empty but valid
+     */
+    BinaryContent(File aFile, boolean deleteOnDispose)
+        throws IOException
+    {
+        this(aFile);
+        if (deleteOnDispose) {
+            tempFile = aFile;
+        }
+    }
+
 
     void actionsOn(boolean on)
     {
@@ -367,6 +462,10 @@ public class BinaryContent {
         }
         ranges = null;
         listeners = null;
+        if (tempFile != null) {
+            ContentUtils.deleteTempFile(tempFile);
+            tempFile = null;
+        }
     }
 
 
@@ -399,18 +498,11 @@ public class BinaryContent {
                 src.limit(src.position() + Math.min(dst.remaining(), maxCopyLength));
             }
             dst.put(src);
-        } else if (sourceRange.data instanceof RandomAccessFile) {
-            RandomAccessFile src = (RandomAccessFile) sourceRange.data;
+        } else if (sourceRange.data instanceof FileData) {
+            FileData src = (FileData) sourceRange.data;
             long start = sourceRange.dataOffset + overlapBytes;
             int length = (int) Math.min(sourceRange.length - overlapBytes, maxCopyLength);
-            int limit = -1;
-            if (dst.remaining() > length) {
-                limit = dst.limit();
-                dst.limit(dst.position() + length);
-            }
-            src.getChannel().read(dst, start);
-            if (limit > 0)
-                dst.limit(limit);
+            src.read(dst, start, length);
         }
 
         return dst.position() - dstInitialPosition;
@@ -611,11 +703,9 @@ public class BinaryContent {
                 ByteBuffer data = (ByteBuffer) value;
                 data.limit(data.capacity());
                 data.position((int) range.dataOffset);
-                result = data.get((int) (position - range.position)) & 0x0ff;
-            } else if (value instanceof RandomAccessFile) {
-                RandomAccessFile randomFile = (RandomAccessFile) value;
-                randomFile.seek(position);
-                result = randomFile.read();
+                result = data.get((int) (range.dataOffset + position - range.position)) & 0x0ff;
+            } else if (value instanceof FileData) {
+                result = ((FileData) value).read(range.dataOffset + position - range.position);
             }
         }
 
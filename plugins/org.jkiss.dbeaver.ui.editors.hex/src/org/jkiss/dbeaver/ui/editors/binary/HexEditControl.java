@@ -34,6 +34,7 @@ import org.jkiss.dbeaver.ui.editors.binary.pref.HexPreferencesPage;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -1840,6 +1841,21 @@ public class HexEditControl extends Composite {
         setContentProvider(binaryContent, notify);
     }
 
+    /**
+     * Sets content backed by a file. File data is read on demand, so content of any size opens instantly.
+     *
+     * @param deleteOnDispose delete file when content is replaced or disposed
+     */
+    public void setContent(File file, String charset, boolean deleteOnDispose, boolean notify)
+        throws IOException
+    {
+        BinaryContent binaryContent = new BinaryContent(file, deleteOnDispose);
+        if (charset != null) {
+            setCharset(charset);
+        }
+        setContentProvider(binaryContent, notify);
+    }
+
 
     /**
      * Causes the receiver to have the keyboard focus. Within Eclipse, never call setFocus() before
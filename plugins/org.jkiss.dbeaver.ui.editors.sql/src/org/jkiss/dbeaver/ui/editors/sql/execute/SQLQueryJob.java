@@ -23,6 +23,7 @@ import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.update.Update;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.IDialogSettings;
@@ -49,6 +50,7 @@ import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.local.StatResultSet;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableParametrized;
 import org.jkiss.dbeaver.model.sql.*;
@@ -76,10 +78,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * SQLQueryJob
@@ -103,7 +102,7 @@ public class SQLQueryJob extends DataSourceJob
     private boolean connectionInvalidated = false;
 
     private SQLScriptCommitType commitType;
-    private SQLScriptErrorHandling errorHandling;
+    private volatile SQLScriptErrorHandling errorHandling;
     private boolean fetchResultSets;
     private long rsOffset;
     private long rsMaxRows;
@@ -123,6 +122,8 @@ public class SQLQueryJob extends DataSourceJob
     private SQLQueryResult curResult;
 
     private transient int rowsFetched;
+    private volatile boolean parallelStopped;
+    private final Object parallelErrorLock = new Object();
 
     public SQLQueryJob(
         @NotNull IWorkbenchPartSite partSite,
@@ -231,53 +232,58 @@ public class SQLQueryJob extends DataSourceJob
                 }
 
                 resultSetNumber = 0;
-                for (int queryNum = 0; queryNum < queries.size(); ) {
-                    // Execute query
-                    SQLScriptElement query = queries.get(queryNum);
-
-                    fetchResultSetNumber = resultSetNumber;
-                    boolean runNext = executeSingleQuery(session, query, true);
-                    if (!runNext) {
-                        if (lastError == null) {
-                            // Execution cancel
-                            break;
-                        }
-                        // Ask to continue
-                        log.error(lastError);
-                        boolean isQueue = queryNum < queries.size() - 1;
-                        DBPPlatformUI.UserResponse response = ExecutionQueueErrorJob.showError(
-                            isQueue ? "SQL script execution" : "SQL query execution",
-                            lastError,
-                            isQueue);
-
-                        boolean stopScript = false;
-                        switch (response) {
-                            case STOP:
-                                // just stop execution
-                                stopScript = true;
-                                break;
-                            case RETRY:
-                                // just make it again
-                                continue;
-                            case IGNORE:
-                                // Just do nothing
+                List<List<SQLQuery>> parallelGroups = getParallelGroups(session, oldAutoCommit || newAutoCommit);
+                if (parallelGroups != null) {
+                    executeInParallel(monitor, context, parallelGroups);
+                } else {
+                    for (int queryNum = 0; queryNum < queries.size(); ) {
+                        // Execute query
+                        SQLScriptElement query = queries.get(queryNum);
+
+                        fetchResultSetNumber = resultSetNumber;
+                        boolean runNext = executeSingleQuery(session, query, true);
+                        if (!runNext) {
+                            if (lastError == null) {
+                                // Execution cancel
                                 break;
-                            case IGNORE_ALL:
-                                errorHandling = SQLScriptErrorHandling.IGNORE;
+                            }
+                            // Ask to continue
+                            log.error(lastError);
+                            boolean isQueue = queryNum < queries.size() - 1;
+                            DBPPlatformUI.UserResponse response = ExecutionQueueErrorJob.showError(
+                                isQueue ? "SQL script execution" : "SQL query execution",
+                                lastError,
+                                isQueue);
+
+                            boolean stopScript = false;
+                            switch (response) {
+                                case STOP:
+                                    // just stop execution
+                                    stopScript = true;
+                                    break;
+                                case RETRY:
+                                    // just make it again
+                                    continue;
+                                case IGNORE:
+                                    // Just do nothing
+                                    break;
+                                case IGNORE_ALL:
+                                    errorHandling = SQLScriptErrorHandling.IGNORE;
+                                    break;
+                            }
+
+                            if (stopScript) {
                                 break;
+                            }
                         }
 
-                        if (stopScript) {
+                        // Check monitor
+                        if (monitor.isCanceled()) {
                             break;
                         }
+                        monitor.worked(1);
+                        queryNum++;
                     }
-
-                    // Check monitor
-                    if (monitor.isCanceled()) {
-                        break;
-                    }
-                    monitor.worked(1);
-                    queryNum++;
                 }
                 if (statistics.getStatementsCount() > 0) {
                     showExecutionResult(session);
@@ -337,6 +343,174 @@ public class SQLQueryJob extends DataSourceJob
         }
     }
 
+    /**
+     * Returns groups of independent statements if script can be executed in parallel.
+     * Only scripts without queries, parameters and control commands, executed in auto-commit mode are supported.
+     */
+    @Nullable
+    private List<List<SQLQuery>> getParallelGroups(@NotNull DBCSession session, boolean autoCommit) {
+        DBPDataSourceContainer container = getDataSourceContainer();
+        if (queries.size() < 2 || !autoCommit || dataFilter != null || !scriptContext.getPragmas().isEmpty() ||
+            container.getPreferenceStore().getInt(SQLPreferenceConstants.SCRIPT_PARALLEL_THREADS) <= 1 ||
+            container.getConnectionConfiguration().getConnectionType().isConfirmExecute() ||
+            container.isForceUseSingleConnection() || container.getDriver().isEmbedded())
+        {
+            return null;
+        }
+        SQLDialect dialect = session.getDataSource().getSQLDialect();
+        for (SQLScriptElement element : queries) {
+            // Result sets are not fetched in parallel mode
+            if (SQLSemanticProcessor.isSelectQuery(dialect, element.getText())) {
+                return null;
+            }
+        }
+        return new SQLQueryDependencyAnalyzer(dialect).getIndependentGroups(queries);
+    }
+
+    /**
+     * Executes groups of independent statements simultaneously.
+     * Each worker uses its own isolated context, statements of one group are executed in script order.
+     */
+    private void executeInParallel(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext context,
+        @NotNull List<List<SQLQuery>> groups
+    ) {
+        int workerCount = Math.min(
+            groups.size(),
+            getDataSourceContainer().getPreferenceStore().getInt(SQLPreferenceConstants.SCRIPT_PARALLEL_THREADS));
+        log.debug("Execute " + queries.size() + " queries in " + groups.size() + " independent groups (" + workerCount + " threads)");
+
+        parallelStopped = false;
+        Queue<List<SQLQuery>> groupQueue = new ArrayDeque<>(groups);
+        List<ParallelWorkerJob> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(new ParallelWorkerJob(monitor, context, groupQueue));
+        }
+        for (ParallelWorkerJob worker : workers) {
+            worker.schedule();
+        }
+        try {
+            for (ParallelWorkerJob worker : workers) {
+                worker.join(0, monitor.getNestedMonitor());
+            }
+        } catch (OperationCanceledException e) {
+            // Cancel running statements and wait until workers close their contexts
+            parallelStopped = true;
+            for (ParallelWorkerJob worker : workers) {
+                worker.cancel();
+            }
+            for (ParallelWorkerJob worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException ex) {
+                    log.debug(ex);
+                }
+            }
+        } catch (InterruptedException e) {
+            log.debug(e);
+        }
+    }
+
+    /**
+     * Asks user what to do with failed statement, same way as in sequential mode.
+     * Workers ask one by one, nothing is asked once script is stopped.
+     */
+    @NotNull
+    private DBPPlatformUI.UserResponse handleParallelError(@NotNull Throwable error) {
+        synchronized (parallelErrorLock) {
+            if (parallelStopped) {
+                return DBPPlatformUI.UserResponse.STOP;
+            }
+            if (errorHandling == SQLScriptErrorHandling.IGNORE) {
+                // Ignore all was chosen for another worker
+                return DBPPlatformUI.UserResponse.IGNORE;
+            }
+            log.error(error);
+            DBPPlatformUI.UserResponse response = ExecutionQueueErrorJob.showError("SQL script execution", error, true);
+            switch (response) {
+                case STOP:
+                    parallelStopped = true;
+                    break;
+                case IGNORE_ALL:
+                    errorHandling = SQLScriptErrorHandling.IGNORE;
+                    break;
+                default:
+                    break;
+            }
+            if (response != DBPPlatformUI.UserResponse.STOP) {
+                synchronized (statistics) {
+                    lastError = null;
+                }
+            }
+            return response;
+        }
+    }
+
+    @Nullable
+    private Throwable executeParallelQuery(@NotNull DBCSession session, @NotNull SQLQuery query) {
+        if (listener != null) {
+            synchronized (statistics) {
+                try {
+                    listener.onStartQuery(session, query);
+                } catch (Exception e) {
+                    log.error(e);
+                }
+            }
+        }
+        SQLQueryResult result = new SQLQueryResult(query);
+        long startTime = System.currentTimeMillis();
+        AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), query);
+        source.setScriptContext(scriptContext);
+        try (DBCStatement dbcStatement = DBUtils.makeStatement(source, session, DBCStatementType.SCRIPT, query, 0, 0)) {
+            int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(SQLPreferenceConstants.STATEMENT_TIMEOUT);
+            if (statementTimeout > 0) {
+                try {
+                    dbcStatement.setStatementTimeout(statementTimeout);
+                } catch (Throwable e) {
+                    log.debug("Can't set statement timeout:" + e.getMessage());
+                }
+            }
+            boolean hasResultSet = dbcStatement.executeStatement();
+            result.setHasResultSet(hasResultSet);
+            if (!hasResultSet) {
+                long updateCount = dbcStatement.getUpdateRowCount();
+                SQLQueryResult.ExecuteResult executeResult = result.addExecuteResult(false);
+                if (updateCount >= 0) {
+                    executeResult.setUpdateCount(updateCount);
+                    synchronized (statistics) {
+                        statistics.addRowsUpdated(updateCount);
+                    }
+                }
+            }
+            result.addWarnings(dbcStatement.getStatementWarnings());
+        } catch (Throwable e) {
+            if (!(e instanceof DBException)) {
+                log.error("Unexpected error while processing SQL", e);
+            }
+            result.setError(e);
+        } finally {
+            result.setQueryTime(System.currentTimeMillis() - startTime);
+            synchronized (statistics) {
+                statistics.addExecuteTime(result.getQueryTime());
+                statistics.addStatementsCount();
+                if (result.getError() != null) {
+                    lastError = result.getError();
+                } else {
+                    lastGoodQuery = query;
+                }
+                if (listener != null) {
+                    try {
+                        listener.onEndQuery(session, result, statistics);
+                    } catch (Exception e) {
+                        log.error(e);
+                    }
+                }
+            }
+        }
+        return result.getError();
+    }
+
     private boolean executeSingleQuery(@NotNull DBCSession session, @NotNull SQLScriptElement element, final boolean fireEvents)
     {
 
@@ -563,7 +737,7 @@ public class SQLQueryJob extends DataSourceJob
             sqlQuery,
             rsOffset,
             rsMaxRows);
-        DBExecUtils.setStatementFetchSize(dbcStatement, rsOffset, rsMaxRows, fetchSize);
+        DBExecUtils.setStatementFetchSize(dbcStatement, rsOffset, rsMaxRows, fetchSize, fetchFlags);
         curStatement = dbcStatement;
 
         int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(SQLPreferenceConstants.STATEMENT_TIMEOUT);
@@ -979,6 +1153,82 @@ public class SQLQueryJob extends DataSourceJob
         closeStatement();
     }
 
+    private class ParallelWorkerJob extends AbstractJob {
+        private final DBRProgressMonitor parentMonitor;
+        private final DBCExecutionContext mainContext;
+        private final Queue<List<SQLQuery>> groupQueue;
+
+        ParallelWorkerJob(
+            @NotNull DBRProgressMonitor parentMonitor,
+            @NotNull DBCExecutionContext mainContext,
+            @NotNull Queue<List<SQLQuery>> groupQueue
+        ) {
+            super("SQL script worker");
+            setSystem(true);
+            this.parentMonitor = parentMonitor;
+            this.mainContext = mainContext;
+            this.groupQueue = groupQueue;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBCExecutionContext context = null;
+            try {
+                context = mainContext.getOwnerInstance().openIsolatedContext(monitor, "SQL script worker", mainContext);
+                // New contexts use connection default commit mode. Statements must be committed one by one,
+                // otherwise they would be rolled back on context close.
+                DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                if (txnManager != null && !txnManager.isAutoCommit()) {
+                    txnManager.setAutoCommit(monitor, true);
+                    if (!txnManager.isAutoCommit()) {
+                        throw new DBCException("Can't switch script worker to auto-commit mode");
+                    }
+                }
+                try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.USER_SCRIPT, "SQL Query")) {
+                    for (;;) {
+                        List<SQLQuery> group;
+                        synchronized (groupQueue) {
+                            group = groupQueue.poll();
+                        }
+                        if (group == null) {
+                            break;
+                        }
+                        for (int queryNum = 0; queryNum < group.size(); ) {
+                            if (parallelStopped || parentMonitor.isCanceled() || monitor.isCanceled()) {
+                                return Status.OK_STATUS;
+                            }
+                            SQLQuery query = group.get(queryNum);
+                            Throwable error = executeParallelQuery(session, query);
+                            if (error != null && errorHandling != SQLScriptErrorHandling.IGNORE) {
+                                DBPPlatformUI.UserResponse response = handleParallelError(error);
+                                if (response == DBPPlatformUI.UserResponse.STOP) {
+                                    return Status.OK_STATUS;
+                                } else if (response == DBPPlatformUI.UserResponse.RETRY) {
+                                    continue;
+                                }
+                            }
+                            synchronized (parentMonitor) {
+                                parentMonitor.worked(1);
+                            }
+                            queryNum++;
+                        }
+                    }
+                }
+            } catch (DBException e) {
+                log.error("Error opening script execution context", e);
+                synchronized (statistics) {
+                    lastError = e;
+                }
+                parallelStopped = true;
+            } finally {
+                if (context != null) {
+                    context.close();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
     private int confirmQueryExecution(@NotNull final SQLQuery query, final boolean scriptMode) {
         final DBPConnectionType connectionType = getDataSourceContainer().getConnectionConfiguration().getConnectionType();
         return new UITask<Integer>() {
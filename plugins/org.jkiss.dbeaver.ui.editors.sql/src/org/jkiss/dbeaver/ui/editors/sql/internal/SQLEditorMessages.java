@@ -296,6 +296,8 @@ public class SQLEditorMessages extends NLS {
     public static String pref_page_sql_editor_label_commit_after_line;
     public static String pref_page_sql_editor_label_commit_type;
     public static String pref_page_sql_editor_label_error_handling;
+    public static String pref_page_sql_editor_label_parallel_threads;
+    public static String pref_page_sql_editor_label_parallel_threads_tip;
     public static String pref_page_sql_editor_label_invalidate_before_execute;
     public static String pref_page_sql_editor_label_sql_timeout;
     public static String pref_page_sql_editor_label_sound_on_query_end;
@@ -36,12 +36,14 @@ import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.DBNModel;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DefaultProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.resultset.IResultSetController;
@@ -55,13 +57,20 @@ import org.jkiss.utils.CommonUtils;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SearchDataQuery implements ISearchQuery {
 
     private static final Log log = Log.getLog(SearchDataQuery.class);
 
+    static final int DEFAULT_PARALLEL_SEARCHES = 4;
+    static final int MAX_PARALLEL_SEARCHES = 32;
+
     private final SearchDataParams params;
     private SearchDataResult searchResult;
+    // Search string converted to numeric/UUID values. Parsed once per search.
+    private Object numericSearchValue;
+    private String uuidSearchValue;
 
     private SearchDataQuery(SearchDataParams params)
     {
@@ -108,20 +117,27 @@ public class SearchDataQuery implements ISearchQuery {
 
             DBRProgressMonitor monitor = new DefaultProgressMonitor(m);
 
+            numericSearchValue = parseNumericValue(searchString);
+            uuidSearchValue = parseUUIDValue(searchString);
+
             int totalObjects = 0;
 
             monitor.beginTask(
                 "Search \"" + searchString + "\" in " + params.sources.size() + " table(s) / " + dataSources.size() + " database(s)",
                 params.sources.size());
             try {
-                for (DBSDataContainer dataContainer : params.sources) {
-                    if (monitor.isCanceled()) {
-                        break;
-                    }
-                    if (searchDataInContainer(monitor, dbnModel, dataContainer)) {
-                        totalObjects++;
+                if (params.maxParallelSearches > 1) {
+                    totalObjects = searchDataInParallel(monitor, dbnModel);
+                } else {
+                    for (DBSDataContainer dataContainer : params.sources) {
+                        if (monitor.isCanceled()) {
+                            break;
+                        }
+                        if (searchDataInContainer(monitor, dbnModel, dataContainer, null)) {
+                            totalObjects++;
+                        }
+                        monitor.worked(1);
                     }
-                    monitor.worked(1);
                 }
             } finally {
                 monitor.done();
@@ -135,7 +151,47 @@ public class SearchDataQuery implements ISearchQuery {
         }
     }
 
-    private boolean searchDataInContainer(DBRProgressMonitor monitor, DBNModel dbnModel, DBSDataContainer dataContainer) {
+    /**
+     * Searches tables of each database instance simultaneously.
+     * Each worker uses its own isolated execution context, so searches do not block each other on the same connection.
+     */
+    private int searchDataInParallel(DBRProgressMonitor monitor, DBNModel dbnModel) throws InterruptedException {
+        Map<DBSInstance, Queue<DBSDataContainer>> instanceContainers = new LinkedHashMap<>();
+        for (DBSDataContainer dataContainer : params.sources) {
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(dataContainer);
+            instanceContainers.computeIfAbsent(instance, i -> new ArrayDeque<>()).add(dataContainer);
+        }
+
+        AtomicInteger totalObjects = new AtomicInteger();
+        List<SearchWorkerJob> workers = new ArrayList<>();
+        for (Map.Entry<DBSInstance, Queue<DBSDataContainer>> entry : instanceContainers.entrySet()) {
+            DBSInstance instance = entry.getKey();
+            Queue<DBSDataContainer> containers = entry.getValue();
+            DBPDataSourceContainer dsContainer = instance.getDataSource().getContainer();
+            int workerCount = Math.min(params.maxParallelSearches, containers.size());
+            if (dsContainer.isForceUseSingleConnection() || dsContainer.getDriver().isEmbedded()) {
+                // Search in the default context
+                workerCount = 1;
+            }
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(new SearchWorkerJob(monitor, dbnModel, instance, containers, workerCount > 1, totalObjects));
+            }
+        }
+        for (SearchWorkerJob worker : workers) {
+            worker.schedule();
+        }
+        for (SearchWorkerJob worker : workers) {
+            worker.join();
+        }
+        return totalObjects.get();
+    }
+
+    private boolean searchDataInContainer(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBNModel dbnModel,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBCExecutionContext executionContext
+    ) {
         if (!params.searchForeignObjects && dataContainer instanceof DBPForeignObject && ((DBPForeignObject) dataContainer).isForeignObject()) {
             return false;
         }
@@ -146,10 +202,16 @@ public class SearchDataQuery implements ISearchQuery {
             log.warn("Can't find tree node for object \"" + objectName + "\"");
             return false;
         }
-        monitor.subTask("Search in '" + objectName + "'");
+        synchronized (monitor) {
+            monitor.subTask("Search in '" + objectName + "'");
+        }
         log.debug("Search in '" + objectName + "'");
         SearchTableMonitor searchMonitor = new SearchTableMonitor(monitor);
-        try (DBCSession session = DBUtils.openUtilSession(searchMonitor, dataContainer, "Search rows in " + objectName)) {
+        String sessionTitle = "Search rows in " + objectName;
+        try (DBCSession session = executionContext == null ?
+            DBUtils.openUtilSession(searchMonitor, dataContainer, sessionTitle) :
+            executionContext.openSession(searchMonitor, DBCExecutionPurpose.UTIL, sessionTitle))
+        {
             TestDataReceiver dataReceiver = new TestDataReceiver(searchMonitor);
             try {
                 findRows(session, dataContainer, dataReceiver);
@@ -161,7 +223,9 @@ public class SearchDataQuery implements ISearchQuery {
 
             if (dataReceiver.rowCount > 0) {
                 SearchDataObject object = new SearchDataObject(node, dataReceiver.rowCount, dataReceiver.filter);
-                searchResult.addObjects(Collections.singletonList(object));
+                synchronized (searchResult) {
+                    searchResult.addObjects(Collections.singletonList(object));
+                }
                 return true;
             }
         } catch (DBCException e) {
@@ -208,25 +272,12 @@ public class SearchDataQuery implements ISearchQuery {
                         if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
                             continue;
                         }
-                        operator = DBCLogicalOperator.EQUALS;
-                        try {
-                            value = Integer.valueOf(params.searchString);
-                        } catch (NumberFormatException e) {
-                            try {
-                                value = Long.valueOf(params.searchString);
-                            } catch (NumberFormatException e1) {
-                                try {
-                                    value = Double.valueOf(params.searchString);
-                                } catch (NumberFormatException e2) {
-                                    try {
-                                        value = new BigDecimal(params.searchString);
-                                    } catch (Exception e3) {
-                                        // Not a number
-                                        continue;
-                                    }
-                                }
-                            }
+                        if (numericSearchValue == null) {
+                            // Not a number
+                            continue;
                         }
+                        operator = DBCLogicalOperator.EQUALS;
+                        value = numericSearchValue;
                         break;
                     case CONTENT:
                     case BINARY:
@@ -260,14 +311,12 @@ public class SearchDataQuery implements ISearchQuery {
                         }
                         String typeName = attribute.getTypeName();
                         if (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2)) {
-                            try {
-                                UUID uuid = UUID.fromString(params.searchString);
-                                operator = DBCLogicalOperator.EQUALS;
-                                value = uuid.toString();
-                            } catch (Exception e) {
+                            if (uuidSearchValue == null) {
                                 // No a UUID
                                 continue;
                             }
+                            operator = DBCLogicalOperator.EQUALS;
+                            value = uuidSearchValue;
                         } else {
                             continue;
                         }
@@ -301,6 +350,36 @@ public class SearchDataQuery implements ISearchQuery {
         }
     }
 
+    @Nullable
+    private static Object parseNumericValue(@NotNull String searchString) {
+        try {
+            return Integer.valueOf(searchString);
+        } catch (NumberFormatException e) {
+            try {
+                return Long.valueOf(searchString);
+            } catch (NumberFormatException e1) {
+                try {
+                    return Double.valueOf(searchString);
+                } catch (NumberFormatException e2) {
+                    try {
+                        return new BigDecimal(searchString);
+                    } catch (Exception e3) {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static String parseUUIDValue(@NotNull String searchString) {
+        try {
+            return UUID.fromString(searchString).toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     static SearchDataQuery createQuery(SearchDataParams params) throws DBException {
         return new SearchDataQuery(params);
     }
@@ -331,6 +410,72 @@ public class SearchDataQuery implements ISearchQuery {
         return dataFilter;
     }
 
+    private class SearchWorkerJob extends AbstractJob {
+
+        private final DBRProgressMonitor parentMonitor;
+        private final DBNModel dbnModel;
+        private final DBSInstance instance;
+        private final Queue<DBSDataContainer> containers;
+        private final boolean isolatedContext;
+        private final AtomicInteger totalObjects;
+
+        SearchWorkerJob(
+            @NotNull DBRProgressMonitor parentMonitor,
+            @NotNull DBNModel dbnModel,
+            @NotNull DBSInstance instance,
+            @NotNull Queue<DBSDataContainer> containers,
+            boolean isolatedContext,
+            @NotNull AtomicInteger totalObjects
+        ) {
+            super("Search data in " + instance.getName());
+            setSystem(true);
+            this.parentMonitor = parentMonitor;
+            this.dbnModel = dbnModel;
+            this.instance = instance;
+            this.containers = containers;
+            this.isolatedContext = isolatedContext;
+            this.totalObjects = totalObjects;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBCExecutionContext context = null;
+            if (isolatedContext) {
+                try {
+                    context = instance.openIsolatedContext(monitor, "Data search", null);
+                } catch (DBException e) {
+                    // Tables must be searched anyway. Use the default context.
+                    log.warn("Error opening search context in '" + instance.getName() + "', use default context", e);
+                }
+            }
+            try {
+                for (;;) {
+                    if (parentMonitor.isCanceled()) {
+                        break;
+                    }
+                    DBSDataContainer dataContainer;
+                    synchronized (containers) {
+                        dataContainer = containers.poll();
+                    }
+                    if (dataContainer == null) {
+                        break;
+                    }
+                    if (searchDataInContainer(parentMonitor, dbnModel, dataContainer, context)) {
+                        totalObjects.incrementAndGet();
+                    }
+                    synchronized (parentMonitor) {
+                        parentMonitor.worked(1);
+                    }
+                }
+            } finally {
+                if (context != null) {
+                    context.close();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
     private class SearchTableMonitor extends VoidProgressMonitor {
 
         private DBRProgressMonitor baseMonitor;
@@ -0,0 +1,72 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+
+@RunWith(value = Parameterized.class)
+public class FunctionMedianTest {
+
+    @Parameter(value = 0)
+    public List<Object> values;
+
+    @Parameter(value = 1)
+    public Object expectedMedian;
+
+    /**
+     * Test data
+     *
+     * @return parameters for test
+     */
+    @Parameters(name = "{index}: Test median of {0} Should be {1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {Arrays.asList(3, 1, 2), 2},
+                {Arrays.asList(5, 1, 4, 2, 3), 3},
+                {Arrays.asList(4, 1, 3, 2), new BigDecimal("2.5")},
+                {Arrays.asList(2, 4), new BigDecimal("3")},
+                {Arrays.asList(1.0, 2.0), 1.5},
+                {Arrays.asList(1, 5L, new BigDecimal("3.5")), new BigDecimal("3.5")},
+                {Arrays.asList(1, 2L, new BigDecimal("10.5"), 4), new BigDecimal("3")},
+                {Arrays.asList(Long.MAX_VALUE, Long.MAX_VALUE - 1), new BigDecimal("9223372036854775806.5")},
+                {Arrays.asList(null, 3, null, 1, 2), 2},
+                {Arrays.asList(null, 4, 1, null), new BigDecimal("2.5")},
+                {Arrays.asList(null, null), null}
+        });
+    }
+
+    @Test
+    public void shouldGetMiddleValue() {
+        var medianFunc = new FunctionMedian();
+        values.forEach(value -> medianFunc.accumulate(value, false));
+        MatcherAssert.assertThat(medianFunc.getResult(values.size()), CoreMatchers.is(expectedMedian));
+    }
+
+}
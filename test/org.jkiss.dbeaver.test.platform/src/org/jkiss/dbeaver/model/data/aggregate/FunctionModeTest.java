@@ -0,0 +1,69 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+
+@RunWith(value = Parameterized.class)
+public class FunctionModeTest {
+
+    @Parameter(value = 0)
+    public List<Object> values;
+
+    @Parameter(value = 1)
+    public Object expectedMode;
+
+    /**
+     * Test data
+     *
+     * @return parameters for test
+     */
+    @Parameters(name = "{index}: Test mode of {0} Should be {1}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {Arrays.asList(1, 2, 2, 3), 2},
+                {Arrays.asList(3, 1, 3, 1, 2), 3},
+                {Arrays.asList(1, 2), 1},
+                {Arrays.asList(1, 2L, new BigDecimal("2.00"), 3), 2L},
+                {Arrays.asList(new BigDecimal("1.5"), 1.5, 2, 2L, 2), 2},
+                {Arrays.asList("b", "a", "b"), "b"},
+                {Arrays.asList(null, null, 5, null), 5},
+                {Arrays.asList(null, null), null}
+        });
+    }
+
+    @Test
+    public void shouldGetMostFrequentValue() {
+        var modeFunc = new FunctionMode();
+        values.forEach(value -> modeFunc.accumulate(value, false));
+        MatcherAssert.assertThat(modeFunc.getResult(values.size()), CoreMatchers.is(expectedMode));
+    }
+
+}
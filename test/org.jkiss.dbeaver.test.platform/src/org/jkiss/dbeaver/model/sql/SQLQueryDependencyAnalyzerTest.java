@@ -0,0 +1,129 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SQLQueryDependencyAnalyzerTest {
+
+    private final SQLQueryDependencyAnalyzer analyzer = new SQLQueryDependencyAnalyzer(BasicSQLDialect.INSTANCE);
+
+    @Test
+    public void statementsOnSameTableAreGrouped() {
+        List<List<String>> groups = getGroups(
+            "CREATE INDEX idx1 ON t1 (c1)",
+            "CREATE INDEX idx2 ON t2 (c2)",
+            "DROP INDEX idx1",
+            "CREATE INDEX idx3 ON t1 (c3)");
+        Assert.assertEquals(
+            List.of(
+                List.of("CREATE INDEX idx1 ON t1 (c1)", "DROP INDEX idx1", "CREATE INDEX idx3 ON t1 (c3)"),
+                List.of("CREATE INDEX idx2 ON t2 (c2)")),
+            groups);
+    }
+
+    @Test
+    public void aliasesAreNotObjects() {
+        List<List<String>> groups = getGroups(
+            "SELECT a.c1 FROM t1 a",
+            "SELECT a.c2 FROM t2 a",
+            "SELECT b.c3 FROM t1 b");
+        Assert.assertEquals(
+            List.of(
+                List.of("SELECT a.c1 FROM t1 a", "SELECT b.c3 FROM t1 b"),
+                List.of("SELECT a.c2 FROM t2 a")),
+            groups);
+    }
+
+    @Test
+    public void quotedNamesMatchUnquoted() {
+        List<List<String>> groups = getGroups(
+            "SELECT * FROM \"Sales\".\"Orders\"",
+            "SELECT * FROM archive.items",
+            "SELECT * FROM sales.orders");
+        Assert.assertEquals(
+            List.of(
+                List.of("SELECT * FROM \"Sales\".\"Orders\"", "SELECT * FROM sales.orders"),
+                List.of("SELECT * FROM archive.items")),
+            groups);
+    }
+
+    @Test
+    public void unparseableStatementsUseIdentifiers() {
+        List<List<String>> groups = getGroups(
+            "VACUUM t1",
+            "REINDEX TABLE t2",
+            "CLUSTER t1");
+        Assert.assertEquals(
+            List.of(
+                List.of("VACUUM t1", "CLUSTER t1"),
+                List.of("REINDEX TABLE t2")),
+            groups);
+    }
+
+    @Test
+    public void dataModificationsAreNotParallel() {
+        // Tables may be linked by foreign keys or triggers
+        Assert.assertNull(getGroups(
+            "INSERT INTO parent (id) VALUES (1)",
+            "INSERT INTO child (parent_id) VALUES (1)"));
+        Assert.assertNull(getGroups(
+            "DROP TABLE parent CASCADE",
+            "DELETE FROM child"));
+
+        List<List<String>> groups = getGroups(
+            "INSERT INTO parent (id) VALUES (1)",
+            "CREATE INDEX idx1 ON other (c1)",
+            "UPDATE child SET parent_id = 1");
+        Assert.assertEquals(
+            List.of(
+                List.of("INSERT INTO parent (id) VALUES (1)", "UPDATE child SET parent_id = 1"),
+                List.of("CREATE INDEX idx1 ON other (c1)")),
+            groups);
+    }
+
+    @Test
+    public void sessionStatementsDisableParallelMode() {
+        Assert.assertNull(getGroups(
+            "SET search_path = s1",
+            "CREATE INDEX idx1 ON t1 (c1)",
+            "CREATE INDEX idx2 ON t2 (c2)"));
+    }
+
+    @Nullable
+    private List<List<String>> getGroups(@NotNull String... queries) {
+        List<SQLScriptElement> elements = new ArrayList<>();
+        for (String query : queries) {
+            elements.add(new SQLQuery(null, query));
+        }
+        List<List<SQLQuery>> groups = analyzer.getIndependentGroups(elements);
+        if (groups == null) {
+            return null;
+        }
+        return groups.stream()
+            .map(group -> group.stream().map(SQLQuery::getText).collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.impl.app.DefaultValueEncryptor;
+import org.jkiss.dbeaver.model.secret.DBSValueEncryptor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class DataSourceConfigurationDigestsTest {
+
+    private static final String CONFIG_FILE = "data-sources.json";
+    private static final String CREDENTIALS_FILE = "credentials-config.json";
+
+    private final DataSourceConfigurationDigests digests = new DataSourceConfigurationDigests();
+
+    @Test
+    public void unchangedFileIsSkipped() {
+        byte[] contents = bytes("{\"connections\":{}}");
+        Assert.assertFalse(digests.isUnchanged(CONFIG_FILE, contents));
+
+        digests.setWritten(CONFIG_FILE, contents);
+        Assert.assertTrue(digests.isUnchanged(CONFIG_FILE, bytes("{\"connections\":{}}")));
+        Assert.assertFalse(digests.isUnchanged(CONFIG_FILE, bytes("{\"connections\":{\"a\":{}}}")));
+        Assert.assertFalse(digests.isUnchanged(CONFIG_FILE, null));
+
+        digests.setWritten(CONFIG_FILE, null);
+        Assert.assertTrue(digests.isUnchanged(CONFIG_FILE, null));
+    }
+
+    @Test
+    public void resetForcesWrite() {
+        byte[] contents = bytes("{}");
+        digests.setWritten(CONFIG_FILE, contents);
+        digests.reset(CONFIG_FILE);
+        Assert.assertFalse(digests.isUnchanged(CONFIG_FILE, contents));
+
+        digests.setWritten(CONFIG_FILE, contents);
+        digests.clear();
+        Assert.assertFalse(digests.isUnchanged(CONFIG_FILE, contents));
+    }
+
+    @Test
+    public void unchangedEncryptedFileIsSkipped() throws DBException {
+        DBSValueEncryptor encryptor = new DefaultValueEncryptor(DefaultValueEncryptor.makeSecretKeyFromPassword("key1"));
+        byte[] contents = bytes("{\"ds1\":{\"password\":\"secret\"}}");
+        byte[] written = encryptor.encryptValue(contents);
+        Assert.assertFalse(digests.isUnchangedEncrypted(CREDENTIALS_FILE, contents, written, encryptor));
+
+        digests.setWritten(CREDENTIALS_FILE, written);
+        Assert.assertTrue(digests.isUnchangedEncrypted(CREDENTIALS_FILE, contents, written, encryptor));
+        Assert.assertFalse(digests.isUnchangedEncrypted(CREDENTIALS_FILE, bytes("{}"), written, encryptor));
+        Assert.assertFalse(digests.isUnchangedEncrypted(CREDENTIALS_FILE, contents, null, encryptor));
+    }
+
+    @Test
+    public void changedEncryptionIsWritten() throws DBException {
+        DBSValueEncryptor encryptor = new DefaultValueEncryptor(DefaultValueEncryptor.makeSecretKeyFromPassword("key1"));
+        byte[] contents = bytes("{\"ds1\":{\"password\":\"secret\"}}");
+        byte[] written = encryptor.encryptValue(contents);
+        digests.setWritten(CREDENTIALS_FILE, written);
+
+        // Same contents encrypted again is a different file
+        byte[] reEncrypted = encryptor.encryptValue(contents);
+        Assert.assertFalse(digests.isUnchangedEncrypted(CREDENTIALS_FILE, contents, reEncrypted, encryptor));
+
+        // Written file can't be read with a new key
+        DBSValueEncryptor newEncryptor = new DefaultValueEncryptor(DefaultValueEncryptor.makeSecretKeyFromPassword("key2"));
+        Assert.assertFalse(digests.isUnchangedEncrypted(CREDENTIALS_FILE, contents, written, newEncryptor));
+    }
+
+    private static byte[] bytes(String str) {
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+}
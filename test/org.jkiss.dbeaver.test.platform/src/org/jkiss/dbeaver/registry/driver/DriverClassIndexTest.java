@@ -0,0 +1,130 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+public class DriverClassIndexTest {
+
+    private Path tempFolder;
+    private Path indexFile;
+
+    @Before
+    public void setUp() throws IOException {
+        tempFolder = Files.createTempDirectory("driver-index-test");
+        indexFile = tempFolder.resolve("index").resolve("test.idx");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempFolder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void multiReleaseEntryIsIndexedByBaseName() throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(new Attributes.Name("Multi-Release"), "true");
+        Path jar = createJar("mr.jar", manifest, "META-INF/versions/11/com/example/mr/Driver.class");
+
+        DriverClassIndex index = DriverClassIndex.getIndex(indexFile, List.of(jar));
+        Assert.assertNotNull(index);
+        Assert.assertEquals(List.of(jar.toAbsolutePath()), index.getJars("com/example/mr/Driver.class"));
+        Assert.assertTrue(index.getJars("com/example/other/Driver.class").isEmpty());
+    }
+
+    @Test
+    public void cachedIndexIsRebuiltWhenLibrariesChange() throws IOException {
+        Path jar = createJar("driver.jar", null, "com/example/v1/Driver.class");
+        DriverClassIndex index = DriverClassIndex.getIndex(indexFile, List.of(jar));
+        Assert.assertNotNull(index);
+        Assert.assertTrue(Files.exists(indexFile));
+        Assert.assertEquals(1, index.getJars("com/example/v1/Driver.class").size());
+
+        // Cached index is used while the library is the same
+        index = DriverClassIndex.getIndex(indexFile, List.of(jar));
+        Assert.assertNotNull(index);
+        Assert.assertEquals(1, index.getJars("com/example/v1/Driver.class").size());
+
+        // New library version changes the signature
+        FileTime oldTime = Files.getLastModifiedTime(jar);
+        createJar("driver.jar", null, "com/example/v2/Driver.class", "com/example/v2/Util.class");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(oldTime.toMillis() + 10000));
+
+        index = DriverClassIndex.getIndex(indexFile, List.of(jar));
+        Assert.assertNotNull(index);
+        Assert.assertTrue(index.getJars("com/example/v1/Driver.class").isEmpty());
+        Assert.assertEquals(1, index.getJars("com/example/v2/Driver.class").size());
+    }
+
+    @Test
+    public void librariesWithManifestClassPathAreNotIndexed() throws IOException {
+        Path implJar = createJar("impl.jar", null, "com/example/impl/Driver.class");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, implJar.getFileName().toString());
+        Path stubJar = createJar("stub.jar", manifest, "com/example/Stub.class");
+
+        // Regular class loader must be used, both for new and cached index
+        Assert.assertNull(DriverClassIndex.getIndex(indexFile, List.of(stubJar)));
+        Assert.assertTrue(Files.exists(indexFile));
+        Assert.assertNull(DriverClassIndex.getIndex(indexFile, List.of(stubJar)));
+    }
+
+    @Test
+    public void foldersAreNotIndexed() throws IOException {
+        Path jar = createJar("driver.jar", null, "com/example/Driver.class");
+        Assert.assertNull(DriverClassIndex.getIndex(indexFile, List.of(jar, tempFolder)));
+    }
+
+    @NotNull
+    private Path createJar(@NotNull String name, @Nullable Manifest manifest, @NotNull String... entries) throws IOException {
+        Path jar = tempFolder.resolve(name);
+        if (manifest != null) {
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        }
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = manifest == null ? new JarOutputStream(out) : new JarOutputStream(out, manifest)) {
+            for (String entry : entries) {
+                jarOut.putNextEntry(new JarEntry(entry));
+                jarOut.write(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE });
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.model.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DashboardTimeseriesTest {
+
+    private static final long START_TIME = 1000 * DashboardTimeseries.HOUR_MS;
+    private static final long SECOND_MS = 1000;
+
+    @Test
+    public void itemCountDoesNotExceedMaxItems() {
+        DashboardTimeseries series = new DashboardTimeseries("test", 20, 0);
+        for (int i = 0; i < 10000; i++) {
+            series.addOrUpdate(START_TIME + i * SECOND_MS, i);
+        }
+        Assert.assertTrue(series.getItemCount() <= 20);
+        assertOrdered(series);
+        Assert.assertEquals(START_TIME + 9999 * SECOND_MS, series.getTimestamp(series.getItemCount() - 1));
+    }
+
+    @Test
+    public void shrinkingMovesPointsToMinuteTier() {
+        // 50 raw points, 25 minute and 25 hour buckets
+        DashboardTimeseries series = new DashboardTimeseries("test", 100, 0);
+        for (int i = 0; i < 50; i++) {
+            series.addOrUpdate(START_TIME + i * SECOND_MS, i);
+        }
+        Assert.assertEquals(50, series.getItemCount());
+
+        // 20 raw points, the first 30 points are averaged into one minute bucket
+        series.setLimits(40, 0);
+        Assert.assertEquals(21, series.getItemCount());
+        Assert.assertEquals(START_TIME, series.getTimestamp(0));
+        Assert.assertEquals(14.5, series.getValue(0), 0.0);
+        Assert.assertEquals(START_TIME + 30 * SECOND_MS, series.getTimestamp(1));
+        Assert.assertEquals(30, series.getValue(1), 0.0);
+        assertOrdered(series);
+
+        // Growing keeps all points
+        series.setLimits(100, 0);
+        Assert.assertEquals(21, series.getItemCount());
+    }
+
+    @Test
+    public void outOfOrderPointsAreInserted() {
+        DashboardTimeseries series = new DashboardTimeseries("test", 100, 0);
+        series.addOrUpdate(START_TIME + 3 * SECOND_MS, 3);
+        series.addOrUpdate(START_TIME + SECOND_MS, 1);
+        series.addOrUpdate(START_TIME + 2 * SECOND_MS, 2);
+        series.addOrUpdate(START_TIME + 2 * SECOND_MS, 20);
+        Assert.assertEquals(3, series.getItemCount());
+        Assert.assertEquals(START_TIME + SECOND_MS, series.getTimestamp(0));
+        Assert.assertEquals(1, series.getValue(0), 0.0);
+        Assert.assertEquals(20, series.getValue(1), 0.0);
+        Assert.assertEquals(3, series.getValue(2), 0.0);
+    }
+
+    @Test
+    public void oldPointsGoToDownsampledTiers() {
+        // 4 raw points, 2 minute and 2 hour buckets
+        DashboardTimeseries series = new DashboardTimeseries("test", 8, 0);
+        for (int i = 0; i < 6; i++) {
+            series.addOrUpdate(START_TIME + i * DashboardTimeseries.MINUTE_MS, i);
+        }
+        Assert.assertEquals(6, series.getItemCount());
+        Assert.assertEquals(START_TIME + DashboardTimeseries.MINUTE_MS, series.getTimestamp(1));
+
+        // Older than raw points - merged into the minute bucket
+        series.addOrUpdate(START_TIME + DashboardTimeseries.MINUTE_MS + 30 * SECOND_MS, 10);
+        Assert.assertEquals(6, series.getItemCount());
+        Assert.assertEquals(5.5, series.getValue(1), 0.0);
+
+        // Older than minute buckets - goes to the hour tier
+        series.addOrUpdate(START_TIME - 2 * DashboardTimeseries.HOUR_MS + SECOND_MS, 7);
+        Assert.assertEquals(7, series.getItemCount());
+        Assert.assertEquals(START_TIME - 2 * DashboardTimeseries.HOUR_MS, series.getTimestamp(0));
+        Assert.assertEquals(7, series.getValue(0), 0.0);
+        assertOrdered(series);
+    }
+
+    private static void assertOrdered(DashboardTimeseries series) {
+        for (int i = 1; i < series.getItemCount(); i++) {
+            Assert.assertTrue(series.getTimestamp(i - 1) < series.getTimestamp(i));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.utils.time;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+public class CompiledDateFormatTest {
+
+    private static final String[] PATTERNS = {
+        "HH:mm:ss",
+        "HH:mm:ss Z",
+        "yyyy-MM-dd",
+        "yyyy-MM-dd HH:mm:ss.SSS",
+        "yyyy-MM-dd HH:mm:ss.SSS Z",
+        "yyyy-MM-dd'T'HH:mm:ss.ffffff",
+        "yy/M/d H:m:s",
+        "dd.MM.yyyy HH:mm:ss.ffffffffff",
+    };
+
+    @Test
+    public void testSameAsExtendedFormat() {
+        Random random = new Random(42);
+        for (String pattern : PATTERNS) {
+            CompiledDateFormat compiled = CompiledDateFormat.compile(pattern, Locale.ENGLISH, TimeZone.getDefault());
+            Assert.assertNotNull(pattern, compiled);
+            ExtendedDateFormat reference = new ExtendedDateFormat(pattern, Locale.ENGLISH);
+            for (int i = 0; i < 1000; i++) {
+                // 1900 .. 2100
+                long time = -2208988800000L + (long) (random.nextDouble() * 6311433600000L);
+                Timestamp timestamp = new Timestamp(time);
+                timestamp.setNanos(random.nextInt(1000000000));
+                Date date = new Date(time);
+                Assert.assertEquals(pattern, reference.format(timestamp), compiled.format(timestamp));
+                Assert.assertEquals(pattern, reference.format(date), compiled.format(date));
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedPatterns() {
+        Assert.assertNull(CompiledDateFormat.compile("dd MMM yyyy", Locale.ENGLISH, TimeZone.getDefault()));
+        Assert.assertNull(CompiledDateFormat.compile("hh:mm a", Locale.ENGLISH, TimeZone.getDefault()));
+        Assert.assertNull(CompiledDateFormat.compile("HH:mm:ss[.fff]", Locale.ENGLISH, TimeZone.getDefault()));
+        Assert.assertNull(CompiledDateFormat.compile("d.M.yyyy HH:mm:ss.SSS", Locale.ENGLISH, TimeZone.getDefault()));
+        Assert.assertNull(CompiledDateFormat.compile("yyyy-MM-dd", Locale.forLanguageTag("th-TH-u-ca-buddhist"), TimeZone.getDefault()));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        CompiledDateFormat compiled = CompiledDateFormat.compile("yyyy-MM-dd", Locale.ENGLISH, TimeZone.getDefault());
+        Assert.assertNotNull(compiled);
+        Assert.assertNull(compiled.format(new Date(-62135596800000L)));
+    }
+
+}